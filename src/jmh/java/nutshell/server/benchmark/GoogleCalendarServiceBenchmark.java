@@ -0,0 +1,90 @@
+package nutshell.server.benchmark;
+
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.GoogleSchedule;
+import nutshell.server.domain.User;
+import nutshell.server.dto.googleCalender.response.GoogleSchedulesDto;
+import nutshell.server.repository.GoogleCalendarRepository;
+import nutshell.server.repository.GoogleScheduleRepository;
+import nutshell.server.repository.UserRepository;
+import nutshell.server.service.googleCalendar.GoogleCalendarRetriever;
+import nutshell.server.service.googleCalendar.GoogleCalendarService;
+import nutshell.server.service.googleSchedule.GoogleScheduleRetriever;
+import nutshell.server.service.user.UserRetriever;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// 1년치 동기화된 일정에서 조회 기간(7일)만 걸러내는 getEvents 필터링 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GoogleCalendarServiceBenchmark {
+    private static final LocalDate START_DATE = LocalDate.of(2024, 7, 1);
+
+    @Param({"500", "5000"})
+    private int schedulesPerCategory;
+
+    private GoogleCalendarService googleCalendarService;
+
+    @Setup
+    public void setup() {
+        User user = User.builder().givenName("길동").familyName("홍").email("user@nutshell.com").serialId("serial").build();
+        GoogleCalendar googleCalendar = GoogleCalendar.builder().email("user@gmail.com").serialId("serial").user(user).build();
+        List<GoogleSchedule> googleSchedules = IntStream.range(0, 10)
+                .mapToObj(category -> GoogleSchedule.builder()
+                        .id("1:category" + category)
+                        .googleCalendarId(1L)
+                        .googleCategoryId("category" + category)
+                        .name("카테고리 " + category)
+                        .color("#000000")
+                        .schedules(IntStream.range(0, schedulesPerCategory)
+                                .mapToObj(i -> {
+                                    LocalDateTime startTime = START_DATE.minusMonths(6).atStartOfDay()
+                                            .plusMinutes((long) i * 365 * 24 * 60 / schedulesPerCategory);
+                                    return GoogleSchedulesDto.GoogleScheduleDto.builder()
+                                            .name("일정 " + i)
+                                            .startTime(startTime)
+                                            .endTime(startTime.plusHours(1))
+                                            .allDay(false)
+                                            .build();
+                                })
+                                .toList())
+                        .build())
+                .toList();
+
+        UserRepository userRepository = InMemoryStubs.repository(UserRepository.class, Map.of(
+                "findById", args -> Optional.of(user)
+        ));
+        GoogleCalendarRepository googleCalendarRepository = InMemoryStubs.repository(GoogleCalendarRepository.class, Map.of(
+                "findAllByUser", args -> List.of(googleCalendar)
+        ));
+        GoogleScheduleRepository googleScheduleRepository = InMemoryStubs.repository(GoogleScheduleRepository.class, Map.of(
+                "findAllByGoogleCalendarId", args -> googleSchedules
+        ));
+        googleCalendarService = InMemoryStubs.construct(
+                GoogleCalendarService.class,
+                InMemoryStubs.construct(UserRetriever.class, userRepository),
+                InMemoryStubs.construct(GoogleCalendarRetriever.class, googleCalendarRepository),
+                InMemoryStubs.construct(GoogleScheduleRetriever.class, googleScheduleRepository)
+        );
+    }
+
+    @Benchmark
+    public List<GoogleSchedulesDto> getGoogleCalendars() {
+        return googleCalendarService.getGoogleCalendars(1L, START_DATE, 7, null);
+    }
+}
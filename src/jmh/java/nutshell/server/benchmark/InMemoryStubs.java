@@ -0,0 +1,82 @@
+package nutshell.server.benchmark;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 벤치마크용 in-memory repository. 지정한 메서드만 응답하고, 나머지 호출은 실패시켜 경로가 바뀐 것을 바로 알 수 있게 한다.
+public class InMemoryStubs {
+
+    private InMemoryStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> type.getSimpleName() + "Stub";
+                        };
+                    }
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return answer.apply(args);
+                }
+        );
+    }
+
+    // 생성자 인자를 순서가 아니라 타입으로 채운다. 넘기지 않은 의존성은 null 로 두므로 생성자에 의존성이 추가돼도 벤치마크가 깨지지 않는다.
+    public static <T> T construct(Class<T> type, Object... dependencies) {
+        Constructor<?> constructor = Arrays.stream(type.getDeclaredConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow();
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        List<Object> remaining = new ArrayList<>(Arrays.asList(dependencies));
+        for (int i = 0; i < parameterTypes.length; i++) {
+            for (Iterator<Object> iterator = remaining.iterator(); iterator.hasNext(); ) {
+                Object dependency = iterator.next();
+                if (parameterTypes[i].isInstance(dependency)) {
+                    args[i] = dependency;
+                    iterator.remove();
+                    break;
+                }
+            }
+        }
+        if (!remaining.isEmpty()) {
+            throw new IllegalArgumentException(type.getSimpleName() + " does not take " + remaining);
+        }
+        try {
+            ReflectionUtils.makeAccessible(constructor);
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(type.getSimpleName(), e);
+        }
+    }
+
+    // @Value 로 주입되는 필드 등 생성자로 넣을 수 없는 값을 채운다
+    public static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getSimpleName() + "." + name);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
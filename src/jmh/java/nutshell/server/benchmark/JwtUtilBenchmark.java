@@ -0,0 +1,38 @@
+package nutshell.server.benchmark;
+
+import io.jsonwebtoken.Claims;
+import nutshell.server.utils.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 모든 인증 요청이 거치는 access token 파싱/서명 검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil();
+        InMemoryStubs.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[64]));
+        InMemoryStubs.setField(jwtUtil, "accessTokenExpirePeriod", 3_600_000);
+        InMemoryStubs.setField(jwtUtil, "refreshTokenExpirePeriod", 1_209_600_000);
+        jwtUtil.afterPropertiesSet();
+        accessToken = jwtUtil.generateTokens(1L).accessToken();
+    }
+
+    @Benchmark
+    public Claims getTokenBody() {
+        return jwtUtil.getTokenBody(accessToken);
+    }
+}
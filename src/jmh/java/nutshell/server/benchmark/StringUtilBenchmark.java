@@ -0,0 +1,38 @@
+package nutshell.server.benchmark;
+
+import nutshell.server.discord.util.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Discord 알림의 요청 본문 escape 해제 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StringUtilBenchmark {
+    @Param({"256", "8192"})
+    private int length;
+
+    private String escaped;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append("\\\"title\\\" : \\\"할 일\\\",\\n\\t\\\"content\\\" : \\\"내용\\\"\\r\\n");
+        }
+        escaped = builder.substring(0, length - (builder.charAt(length - 1) == '\\' ? 1 : 0));
+    }
+
+    @Benchmark
+    public String translateEscapes() {
+        return StringUtil.translateEscapes(escaped);
+    }
+}
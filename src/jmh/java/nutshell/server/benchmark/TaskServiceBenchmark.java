@@ -0,0 +1,78 @@
+package nutshell.server.benchmark;
+
+import nutshell.server.domain.User;
+import nutshell.server.dto.task.response.TasksDto;
+import nutshell.server.dto.type.Status;
+import nutshell.server.repository.TaskOrderRepository;
+import nutshell.server.repository.TaskQueryRepository;
+import nutshell.server.repository.UserRepository;
+import nutshell.server.repository.projection.TaskSummary;
+import nutshell.server.service.task.TaskRetriever;
+import nutshell.server.service.task.TaskService;
+import nutshell.server.service.taskOrder.TaskOrderRetriever;
+import nutshell.server.service.user.UserRetriever;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Staging Area 목록 조회 시 TaskSummary -> TaskDto 변환 비용 (DB 조회는 in-memory 로 대체)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskServiceBenchmark {
+    @Param({"10", "200"})
+    private int taskCount;
+
+    private TaskService taskService;
+
+    @Setup
+    public void setup() {
+        User user = User.builder().givenName("길동").familyName("홍").email("user@nutshell.com").serialId("serial").build();
+        List<TaskSummary> tasks = IntStream.range(0, taskCount)
+                .mapToObj(i -> TaskSummary.builder()
+                        .id((long) i)
+                        .name("할 일 " + i)
+                        .deadLineDate(LocalDate.of(2024, 7, 1).plusDays(i % 30))
+                        .deadLineTime(LocalTime.of(i % 24, 0))
+                        .status(Status.TODO)
+                        .build())
+                .toList();
+
+        UserRepository userRepository = InMemoryStubs.repository(UserRepository.class, Map.of(
+                "findById", args -> Optional.of(user)
+        ));
+        TaskQueryRepository taskQueryRepository = new TaskQueryRepository(null) {
+            @Override
+            public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByCreatedAtDesc(final Long userId) {
+                return tasks;
+            }
+        };
+        TaskOrderRepository taskOrderRepository = InMemoryStubs.repository(TaskOrderRepository.class, Map.of(
+                "findById", args -> Optional.empty()
+        ));
+        taskService = InMemoryStubs.construct(
+                TaskService.class,
+                InMemoryStubs.construct(TaskRetriever.class, taskQueryRepository),
+                InMemoryStubs.construct(UserRetriever.class, userRepository),
+                InMemoryStubs.construct(TaskOrderRetriever.class, taskOrderRepository)
+        );
+    }
+
+    @Benchmark
+    public TasksDto getTasks() {
+        return taskService.getTasks(1L, "recent", null);
+    }
+}
@@ -0,0 +1,78 @@
+package nutshell.server.benchmark;
+
+import nutshell.server.domain.Task;
+import nutshell.server.domain.TimeBlock;
+import nutshell.server.domain.User;
+import nutshell.server.dto.timeBlock.request.TimeBlockRequestDto;
+import nutshell.server.exception.BusinessException;
+import nutshell.server.repository.TaskRepository;
+import nutshell.server.repository.TimeBlockRepository;
+import nutshell.server.repository.UserRepository;
+import nutshell.server.service.task.TaskRetriever;
+import nutshell.server.service.timeBlock.TimeBlockRetriever;
+import nutshell.server.service.timeBlock.TimeBlockSaver;
+import nutshell.server.service.timeBlock.TimeBlockService;
+import nutshell.server.service.user.UserRetriever;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 타임 블록 생성 시 checkValid 를 포함한 검증 경로. 잘못된 요청은 BusinessException 생성 비용까지 포함된다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeBlockServiceBenchmark {
+    private TimeBlockService timeBlockService;
+    private TimeBlockRequestDto valid;
+    private TimeBlockRequestDto invalid;
+
+    @Setup
+    public void setup() {
+        User user = User.builder().givenName("길동").familyName("홍").email("user@nutshell.com").serialId("serial").build();
+        Task task = Task.builder().user(user).name("할 일").description("설명").build();
+
+        UserRepository userRepository = InMemoryStubs.repository(UserRepository.class, Map.of(
+                "findById", args -> Optional.of(user)
+        ));
+        TaskRepository taskRepository = InMemoryStubs.repository(TaskRepository.class, Map.of(
+                "findByUserAndId", args -> Optional.of(task)
+        ));
+        TimeBlockRepository timeBlockRepository = InMemoryStubs.repository(TimeBlockRepository.class, Map.of(
+                "existsByTaskUserAndStartTimeBetweenAndEndTimeBetween", args -> false,
+                "save", args -> args[0]
+        ));
+        timeBlockService = InMemoryStubs.construct(
+                TimeBlockService.class,
+                InMemoryStubs.construct(TimeBlockRetriever.class, timeBlockRepository),
+                InMemoryStubs.construct(TimeBlockSaver.class, timeBlockRepository),
+                InMemoryStubs.construct(TaskRetriever.class, taskRepository),
+                InMemoryStubs.construct(UserRetriever.class, userRepository)
+        );
+        LocalDateTime startTime = LocalDateTime.of(2024, 7, 1, 9, 0);
+        valid = new TimeBlockRequestDto(startTime, startTime.plusMinutes(90));
+        invalid = new TimeBlockRequestDto(startTime, startTime.plusMinutes(50));
+    }
+
+    @Benchmark
+    public TimeBlock createValid() {
+        return timeBlockService.create(1L, 1L, valid);
+    }
+
+    @Benchmark
+    public Object createInvalid() {
+        try {
+            return timeBlockService.create(1L, 1L, invalid);
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+}
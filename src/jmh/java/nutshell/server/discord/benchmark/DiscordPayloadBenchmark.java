@@ -0,0 +1,99 @@
+package nutshell.server.discord.benchmark;
+
+import io.micrometer.core.instrument.util.StringEscapeUtils;
+import nutshell.server.discord.model.EmbedObject;
+import nutshell.server.discord.model.Field;
+import nutshell.server.discord.model.JsonObject;
+import nutshell.server.discord.util.DiscordPayloadUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 에러 알림 한 건(embed 2개, 긴 stack trace 포함)의 payload 를 만드는 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiscordPayloadBenchmark {
+    private List<EmbedObject> embeds;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setup() {
+        StringBuilder stackTrace = new StringBuilder("java.lang.IllegalStateException: \"boom\"\n");
+        for (int i = 0; i < 60; i++) {
+            stackTrace.append("\tat nutshell.server.service.task.TaskService.method").append(i).append("(TaskService.java:").append(i).append(")\n");
+        }
+        embeds = List.of(
+                new EmbedObject()
+                        .setTitle("[ERROR - 문제 간략 내용]")
+                        .setColor(Color.red)
+                        .setDescription("java.lang.IllegalStateException: \"boom\"")
+                        .addField("[이용자 요청 URI 정보]", "/api/tasks/1", false)
+                        .addField("[이용자 IP 정보]", "127.0.0.1", false)
+                        .addField("[HTTP 헤더 정보]", "\"authorization\" : \"Bearer token\",\n\"content-type\" : \"application/json\"", true)
+                        .addField("[HTTP Body 정보]", "{\"title\":\"할 일\",\"content\":\"내용\\n두 번째 줄\"}", false),
+                new EmbedObject()
+                        .setTitle("[Exception 상세 내용]")
+                        .setColor(Color.red)
+                        .setDescription(stackTrace.toString())
+        );
+        out = new ByteArrayOutputStream(16 * 1024);
+    }
+
+    @Benchmark
+    public byte[] jsonObject() {
+        return legacyPayload(embeds).toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int jsonGenerator() throws IOException {
+        out.reset();
+        DiscordPayloadUtil.write(out, "에러났서버!!!!", "https://example.com/avatar.png", false, embeds);
+        return out.size();
+    }
+
+    // 기존에는 appender 가 값마다 escapeJson 을 먼저 호출하고 JsonObject 로 문자열을 이어 붙였다
+    private static JsonObject legacyPayload(List<EmbedObject> embeds) {
+        JsonObject json = new JsonObject();
+        json.put("username", "에러났서버!!!!");
+        json.put("avatar_url", "https://example.com/avatar.png");
+        json.put("tts", false);
+
+        List<JsonObject> jsonEmbeds = new ArrayList<>();
+        for (EmbedObject embed : embeds) {
+            JsonObject jsonEmbed = new JsonObject();
+            jsonEmbed.put("title", embed.getTitle());
+            jsonEmbed.put("description", StringEscapeUtils.escapeJson(embed.getDescription()));
+            Color color = embed.getColor();
+            int rgb = color.getRed();
+            rgb = (rgb << 8) + color.getGreen();
+            rgb = (rgb << 8) + color.getBlue();
+            jsonEmbed.put("color", rgb);
+
+            List<JsonObject> jsonFields = new ArrayList<>();
+            for (Field field : embed.getFields()) {
+                JsonObject jsonField = new JsonObject();
+                jsonField.put("name", field.name());
+                jsonField.put("value", StringEscapeUtils.escapeJson(field.value()));
+                jsonField.put("inline", field.inline());
+                jsonFields.add(jsonField);
+            }
+            jsonEmbed.put("fields", jsonFields.toArray());
+            jsonEmbeds.add(jsonEmbed);
+        }
+        json.put("embeds", jsonEmbeds.toArray());
+        return json;
+    }
+}
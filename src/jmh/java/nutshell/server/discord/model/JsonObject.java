@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
+// DiscordPayloadUtil 로 교체되기 전의 payload 생성 방식. 벤치마크 비교용으로만 남겨 둔다.
 public class JsonObject {
 
     private final HashMap<String, Object> discordMessageMap = new HashMap<>();
@@ -0,0 +1,103 @@
+package nutshell.server.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Google Calendar API(calendarList, batch events.list)와 Discord webhook 을 흉내 내는 로컬 서버
+public class FakeGoogleServer {
+    private static final String BOUNDARY = "batch_loadtest";
+    private static final Pattern BATCH_PART = Pattern.compile("GET\\s+\\S*/calendars/([^/\\s]+)/events");
+    private static final int CALENDARS = 3;
+    private static final int EVENTS_PER_CALENDAR = 30;
+
+    private final HttpServer server;
+
+    public FakeGoogleServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/calendar/v3/users/me/calendarList", this::calendarList);
+        server.createContext("/batch/calendar/v3", this::batch);
+        server.createContext("/discord", exchange -> respond(exchange, 204, null, null));
+        server.setExecutor(Executors.newFixedThreadPool(16));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String getRootUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private void calendarList(HttpExchange exchange) throws IOException {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < CALENDARS; i++) {
+            items.append(i == 0 ? "" : ",")
+                    .append("{\"id\":\"calendar").append(i).append("@group.calendar.google.com\",")
+                    .append("\"summary\":\"캘린더 ").append(i).append("\",")
+                    .append("\"backgroundColor\":\"#4285f4\"}");
+        }
+        respond(exchange, 200, "application/json; charset=UTF-8", "{\"items\":[" + items + "]}");
+    }
+
+    // 요청에 들어있는 events.list 개수만큼 같은 순서로 multipart/mixed 응답을 만든다
+    private void batch(HttpExchange exchange) throws IOException {
+        String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Matcher matcher = BATCH_PART.matcher(request);
+        StringBuilder body = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            String events = events(index++);
+            body.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(index).append(">\r\n\r\n")
+                    .append("HTTP/1.1 200 OK\r\n")
+                    .append("Content-Type: application/json; charset=UTF-8\r\n")
+                    .append("Content-Length: ").append(events.getBytes(StandardCharsets.UTF_8).length).append("\r\n\r\n")
+                    .append(events).append("\r\n");
+        }
+        body.append("--").append(BOUNDARY).append("--\r\n");
+        respond(exchange, 200, "multipart/mixed; boundary=" + BOUNDARY, body.toString());
+    }
+
+    private static String events(int calendar) {
+        LocalDate today = LocalDate.now();
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < EVENTS_PER_CALENDAR; i++) {
+            String date = today.plusDays(i - EVENTS_PER_CALENDAR / 2).toString();
+            items.append(i == 0 ? "" : ",")
+                    .append("{\"id\":\"event").append(calendar).append('-').append(i).append("\",")
+                    .append("\"summary\":\"일정 ").append(i).append("\",")
+                    .append("\"start\":{\"dateTime\":\"").append(date).append("T09:00:00+09:00\"},")
+                    .append("\"end\":{\"dateTime\":\"").append(date).append("T10:00:00+09:00\"}}");
+        }
+        return "{\"items\":[" + items + "]}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package nutshell.server.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 가중치에 따라 API 를 섞어서 호출하고 엔드포인트별 지연 시간(HdrHistogram)과 오류 수를 모은다
+public class LoadDriver {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final List<String> accessTokens;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+
+    public LoadDriver(String baseUrl, List<String> accessTokens) {
+        this.baseUrl = baseUrl;
+        this.accessTokens = accessTokens;
+        String today = LocalDate.now().toString();
+        this.scenarios = List.of(
+                new Scenario("GET /api/tasks", 60, "GET", "/api/tasks?order=recent"),
+                new Scenario("GET /api/tasks?targetDate", 15, "GET", "/api/tasks?order=recent&targetDate=" + today),
+                new Scenario("GET /api/tasks/time-blocks", 20, "GET", "/api/tasks/time-blocks?startDate=" + today + "&range=7"),
+                new Scenario("POST /api/google/calendars/sync", 5, "POST", "/api/google/calendars/sync")
+        );
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    public void run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        drive(concurrency, warmup);
+        scenarios.forEach(Scenario::reset);
+        long start = System.nanoTime();
+        drive(concurrency, duration);
+        report(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void drive(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    call(pick());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    private Scenario pick() {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            value -= scenario.weight();
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(0);
+    }
+
+    private void call(Scenario scenario) {
+        String accessToken = accessTokens.get(ThreadLocalRandom.current().nextInt(accessTokens.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path()))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .method(scenario.method(), HttpRequest.BodyPublishers.noBody())
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            scenario.record(System.nanoTime() - start, response.statusCode() < 400);
+        } catch (Exception e) {
+            scenario.record(System.nanoTime() - start, false);
+        }
+    }
+
+    private void report(Duration elapsed) {
+        double seconds = elapsed.toMillis() / 1000.0;
+        System.out.printf("%n%-36s %9s %9s %8s %8s %8s %8s %8s %7s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+        Histogram total = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        long errors = 0;
+        for (Scenario scenario : scenarios) {
+            Histogram histogram = scenario.histogram.copy();
+            total.add(histogram);
+            errors += scenario.errors.get();
+            print(scenario.name(), histogram, scenario.errors.get(), seconds);
+        }
+        print("TOTAL", total, errors, seconds);
+    }
+
+    private static void print(String name, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-36s %9d %9.1f %8.1f %8.1f %8.1f %8.1f %8.1f %7d%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                errors);
+    }
+
+    private record Scenario(
+            String name,
+            int weight,
+            String method,
+            String path,
+            ConcurrentHistogram histogram,
+            AtomicLong errors
+    ) {
+        Scenario(String name, int weight, String method, String path) {
+            this(name, weight, method, path, new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3), new AtomicLong());
+        }
+
+        void record(long elapsedNanos, boolean success) {
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            histogram.reset();
+            errors.set(0);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package nutshell.server.loadtest;
+
+import nutshell.server.ServerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// ./gradlew loadTest -Pusers=2000 -PtasksPerUser=20 -Pconcurrency=32 -PdurationSeconds=60
+// Docker 로 Postgres / Redis 를 띄우고, Google 은 로컬 fake 서버로 대체해서 애플리케이션을 부팅한 뒤 부하를 건다.
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 2000);
+        int tasksPerUser = Integer.getInteger("loadtest.tasksPerUser", 20);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 15));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 60));
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+             GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379)) {
+            postgres.start();
+            redis.start();
+            FakeGoogleServer fakeGoogleServer = new FakeGoogleServer();
+            fakeGoogleServer.start();
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("server.port", 0);
+            properties.put("management.server.port", 0);
+            properties.put("spring.datasource.url", postgres.getJdbcUrl());
+            properties.put("spring.datasource.username", postgres.getUsername());
+            properties.put("spring.datasource.password", postgres.getPassword());
+            properties.put("spring.data.redis.host", redis.getHost());
+            properties.put("spring.data.redis.port", redis.getMappedPort(6379));
+            properties.put("jwt.secret-key", Base64.getEncoder().encodeToString(new byte[64]));
+            properties.put("jwt.access-token-expire-period", 86_400_000);
+            properties.put("jwt.refresh-token-expire-period", 86_400_000);
+            properties.put("google.calender.client-id", "loadtest");
+            properties.put("google.calender.client-secret", "loadtest");
+            properties.put("google.calender.redirect-uri", "http://localhost/callback");
+            properties.put("spring.security.oauth2.client.registration.google.client-id", "loadtest");
+            properties.put("spring.security.oauth2.client.registration.google.client-secret", "loadtest");
+            properties.put("spring.security.oauth2.client.registration.google.redirect-uri", "http://localhost/callback");
+            properties.put("google.calendar.root-url", fakeGoogleServer.getRootUrl());
+            properties.put("logging.discord.webhook-uri", fakeGoogleServer.getRootUrl() + "discord");
+
+            ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(ServerApplication.class)
+                    .properties(properties)
+                    .run();
+            try {
+                System.out.printf("Seeding %d users x %d tasks ...%n", users, tasksPerUser);
+                List<String> accessTokens = new LoadTestSeeder(context).seed(users, tasksPerUser);
+
+                String baseUrl = "http://127.0.0.1:" + context.getWebServer().getPort();
+                System.out.printf("Driving load : concurrency=%d, warmup=%ds, duration=%ds%n",
+                        concurrency, warmup.toSeconds(), duration.toSeconds());
+                new LoadDriver(baseUrl, accessTokens).run(concurrency, warmup, duration);
+            } finally {
+                context.close();
+                fakeGoogleServer.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package nutshell.server.loadtest;
+
+import nutshell.server.domain.GoogleSchedule;
+import nutshell.server.dto.googleCalender.response.GoogleSchedulesDto;
+import nutshell.server.repository.GoogleScheduleRepository;
+import nutshell.server.utils.JwtUtil;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+// 부하 테스트용 데이터. 대량 insert 는 JPA 를 거치지 않고 JDBC batch / insert-select 로 넣는다.
+public class LoadTestSeeder {
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GoogleScheduleRepository googleScheduleRepository;
+    private final JwtUtil jwtUtil;
+
+    public LoadTestSeeder(ApplicationContext context) {
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.googleScheduleRepository = context.getBean(GoogleScheduleRepository.class);
+        this.jwtUtil = context.getBean(JwtUtil.class);
+    }
+
+    // 생성한 사용자별 access token 을 반환한다
+    public List<String> seed(int users, int tasksPerUser) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batchInsert(
+                "insert into users (given_name, family_name, image, email, serial_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                users,
+                i -> new Object[]{"길동" + i, "홍", "https://example.com/" + i + ".png", "user" + i + "@nutshell.com", "load-" + i, now, now}
+        );
+        List<Long> userIds = jdbcTemplate.queryForList("select id from users where serial_id like 'load-%' order by id", Long.class);
+
+        batchInsert(
+                "insert into google_calendar (access_token, refresh_token, email, serial_id, expires_at, created_at, updated_at, user_id) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                userIds.size(),
+                i -> new Object[]{"access-" + i, "refresh-" + i, "user" + i + "@gmail.com", "google-" + i,
+                        Timestamp.valueOf(LocalDateTime.now().plusDays(1)), now, now, userIds.get(i)}
+        );
+
+        // 절반은 Staging Area, 절반은 오늘 할당된 할 일
+        batchInsert(
+                "insert into task (name, description, status, assigned_date, created_at, updated_at, user_id) values (?, ?, ?, ?, ?, ?, ?)",
+                userIds.size() * tasksPerUser,
+                i -> new Object[]{"할 일 " + i, "설명 " + i, "TODO",
+                        i % 2 == 0 ? null : Date.valueOf(LocalDate.now()),
+                        now, now, userIds.get(i / tasksPerUser)}
+        );
+        jdbcTemplate.update(
+                "insert into time_block (task_id, start_time, end_time, created_at, updated_at) " +
+                        "select t.id, current_date + interval '9 hour' + (t.id % 8) * interval '1 hour', " +
+                        "current_date + interval '10 hour' + (t.id % 8) * interval '1 hour', now(), now() " +
+                        "from task t where t.assigned_date is not null"
+        );
+
+        List<Long> googleCalendarIds = jdbcTemplate.queryForList("select id from google_calendar order by id", Long.class);
+        List<GoogleSchedule> schedules = new ArrayList<>();
+        for (Long googleCalendarId : googleCalendarIds) {
+            schedules.add(GoogleSchedule.builder()
+                    .id(googleCalendarId + ":primary")
+                    .googleCalendarId(googleCalendarId)
+                    .googleCategoryId("primary")
+                    .name("기본 캘린더")
+                    .color("#4285f4")
+                    .schedules(IntStream.range(0, 30)
+                            .mapToObj(day -> {
+                                LocalDateTime start = LocalDate.now().plusDays(day - 15).atTime(9, 0);
+                                return GoogleSchedulesDto.GoogleScheduleDto.builder()
+                                        .name("일정 " + day)
+                                        .startTime(start)
+                                        .endTime(start.plusHours(1))
+                                        .allDay(false)
+                                        .build();
+                            })
+                            .toList())
+                    .build());
+        }
+        googleScheduleRepository.saveAll(schedules);
+
+        return userIds.stream().map(userId -> jwtUtil.generateTokens(userId).accessToken()).toList();
+    }
+
+    private void batchInsert(String sql, int count, IntFunction<Object[]> row) {
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = from; i < Math.min(count, from + BATCH_SIZE); i++) {
+                rows.add(row.apply(i));
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package nutshell.server.advice;
 
 
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import nutshell.server.exception.BusinessException;
 import nutshell.server.exception.IllegalArgumentException;
@@ -9,6 +11,7 @@ import nutshell.server.exception.NotFoundException;
 import nutshell.server.exception.UnAuthorizedException;
 import nutshell.server.exception.code.*;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -30,6 +33,15 @@ public class GlobalExceptionHandler {
                 .body(e.getErrorCode());
     }
 
+    // 같은 행을 동시에 수정해서 @Version 검사에 실패한 경우
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<BusinessErrorCode> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        log.info("GlobalExceptionHandler catch ObjectOptimisticLockingFailureException : {}", e.getMessage());
+        return ResponseEntity
+                .status(BusinessErrorCode.CONCURRENT_UPDATE_CONFLICT.getHttpStatus())
+                .body(BusinessErrorCode.CONCURRENT_UPDATE_CONFLICT);
+    }
+
     // DB에서 데이터를 찾지 못한 경우
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<NotFoundErrorCode> handleNotFoundException(NotFoundException e){
@@ -101,6 +113,15 @@ public class GlobalExceptionHandler {
                 .body(BusinessErrorCode.GOOGLE_SERVER_ERROR);
     }
 
+    //구글 API 서킷 브레이커가 열려있거나 동시 호출 한도를 넘은 경우
+    @ExceptionHandler(value={CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<BusinessErrorCode> handleGoogleUnavailableException(Exception e) {
+        log.warn(e.getMessage());
+        return ResponseEntity
+                .status(BusinessErrorCode.GOOGLE_SERVER_ERROR.getHttpStatus())
+                .body(BusinessErrorCode.GOOGLE_SERVER_ERROR);
+    }
+
     //잘못된 인자 오류
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<IllegalArgumentErrorCode> handleException(IllegalArgumentException e) {
@@ -0,0 +1,13 @@
+package nutshell.server.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// controller 메서드 한 번 호출에 허용하는 최대 SQL 실행 횟수. 초과하면 metric 을 남기고, enforce 설정 시 실패시킨다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int max();
+}
@@ -0,0 +1,45 @@
+package nutshell.server.cache;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+
+// Hibernate 2차 캐시는 인스턴스마다 로컬 Caffeine(JCache) 이고, 다른 인스턴스의 변경은 Redis pub/sub 으로 받아 지운다
+@Configuration
+public class SecondLevelCacheConfig {
+    @Value("${cache.second-level.config}")
+    private String CONFIG_URI;
+
+    // CachingProvider 는 ClassLoader + URI 별로 CacheManager 를 공유하므로, 컨텍스트마다 provider 를 새로 만들어 캐시를 나눈다
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager() {
+        return new CaffeineCachingProvider().getCacheManager(URI.create(CONFIG_URI), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(final CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.redis.enabled", havingValue = "true")
+    public RedisMessageListenerContainer secondLevelCacheInvalidationContainer(
+            final RedisConnectionFactory redisConnectionFactory,
+            final SecondLevelCacheInvalidator secondLevelCacheInvalidator
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(secondLevelCacheInvalidator, new ChannelTopic(SecondLevelCacheInvalidator.CHANNEL));
+        return container;
+    }
+}
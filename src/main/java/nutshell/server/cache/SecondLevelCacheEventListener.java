@@ -0,0 +1,60 @@
+package nutshell.server.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// 2차 캐시 대상 엔티티가 flush 될 때 무효화를 모아 두고, 커밋 후 다른 인스턴스에 알린다
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    private final EntityManagerFactory entityManagerFactory;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(final PostInsertEvent event) {
+        publish(event.getPersister(), event.getId(), true);
+    }
+
+    @Override
+    public void onPostUpdate(final PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId(), false);
+    }
+
+    @Override
+    public void onPostDelete(final PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId(), true);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(final EntityPersister persister) {
+        return false;
+    }
+
+    private void publish(final EntityPersister persister, final Object id, final boolean membershipChanged) {
+        if (persister.canWriteToCache()) {
+            secondLevelCacheInvalidator.publishAfterCommit(persister.getEntityName(), (Long) id, membershipChanged);
+        }
+    }
+}
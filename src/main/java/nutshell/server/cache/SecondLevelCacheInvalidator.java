@@ -0,0 +1,172 @@
+package nutshell.server.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 2차 캐시 무효화. 트랜잭션 안의 변경을 모았다가 커밋 후 메시지 하나로 다른 인스턴스에 알리고,
+// 받은 쪽은 엔티티/컬렉션 캐시를 지우고 해당 테이블의 쿼리 캐시 timestamp 를 갱신한다.
+// 메시지를 놓친 경우의 stale 은 region 의 after-write 만료(hibernate-jcache.conf) 까지로 제한된다.
+// 지연된 replica 에서 읽은 값은 캐시에 넣지 않는다 (ReplicaCacheModeListener).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements MessageListener {
+    static final String CHANNEL = "cache:second-level:invalidation";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    // 자기가 보낸 메시지는 무시한다
+    private final String nodeId = UUID.randomUUID().toString();
+    @Value("${cache.invalidation.redis.enabled}")
+    private boolean REDIS_ENABLED;
+
+    // Hibernate 가 로컬 캐시를 이미 정리한 엔티티 변경. 커밋 후 다른 인스턴스에만 알린다.
+    public void publishAfterCommit(final String entityName, final Long id, final boolean membershipChanged) {
+        afterCommit(new Invalidation(entityName, Set.of(id), membershipChanged), false);
+    }
+
+    // JPQL bulk / JDBC 로 바꾼 행. Hibernate 가 어떤 엔티티인지 모르므로 커밋 후 로컬 캐시도 직접 지운다.
+    // membershipChanged 는 insert/delete 처럼 컬렉션 캐시의 구성원이 바뀌는 경우
+    public void evictAfterCommit(final Class<?> entityClass, final Collection<Long> ids, final boolean membershipChanged) {
+        if (!ids.isEmpty()) {
+            afterCommit(new Invalidation(entityClass.getName(), Set.copyOf(ids), membershipChanged), true);
+        }
+    }
+
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        try {
+            InvalidationMessage received = objectMapper.readValue(message.getBody(), InvalidationMessage.class);
+            if (!nodeId.equals(received.nodeId())) {
+                received.invalidations().forEach(this::evict);
+            }
+        } catch (Exception e) {
+            log.error("Second-level cache invalidation Error : {}", e.getMessage());
+        }
+    }
+
+    private void afterCommit(final Invalidation invalidation, final boolean evictLocally) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (evictLocally) {
+                evict(invalidation);
+            }
+            publish(List.of(invalidation));
+            return;
+        }
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(invalidation, evictLocally);
+    }
+
+    private void publish(final Collection<Invalidation> invalidations) {
+        if (!REDIS_ENABLED || invalidations.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(
+                    CHANNEL,
+                    objectMapper.writeValueAsString(new InvalidationMessage(nodeId, List.copyOf(invalidations)))
+            );
+        } catch (Exception e) {
+            log.error("Second-level cache invalidation publish Error : {}", e.getMessage());
+        }
+    }
+
+    void evict(final Invalidation invalidation) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister persister = sessionFactory.getMappingMetamodel().findEntityDescriptor(invalidation.entityName());
+        if (persister == null) {
+            return;
+        }
+        CacheImplementor cache = sessionFactory.getCache();
+        invalidation.ids().forEach(id -> cache.evictEntityData(invalidation.entityName(), id));
+        if (invalidation.membershipChanged()) {
+            sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+                if (collection.hasCache()
+                        && collection.getElementType() instanceof EntityType elementType
+                        && elementType.getAssociatedEntityName().equals(invalidation.entityName())) {
+                    cache.evictCollectionData(collection.getRole());
+                }
+            });
+        }
+        // 로컬에서 엔티티가 바뀔 때 Hibernate 가 하는 것처럼 테이블 timestamp 를 올려 그 테이블을 읽은 쿼리 캐시 결과를 무효화한다
+        if (sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            String[] spaces = Arrays.stream(persister.getQuerySpaces()).map(String::valueOf).toArray(String[]::new);
+            try (Session session = sessionFactory.openSession()) {
+                cache.getTimestampsCache().invalidate(spaces, (SharedSessionContractImplementor) session);
+            }
+        }
+    }
+
+    record Invalidation(
+            String entityName,
+            Set<Long> ids,
+            boolean membershipChanged
+    ) {
+        Invalidation merge(final Invalidation other) {
+            Set<Long> merged = new HashSet<>(ids);
+            merged.addAll(other.ids());
+            return new Invalidation(entityName, merged, membershipChanged || other.membershipChanged());
+        }
+    }
+
+    record InvalidationMessage(
+            String nodeId,
+            List<Invalidation> invalidations
+    ) {
+    }
+
+    private class PendingInvalidations implements TransactionSynchronization {
+        // 다른 인스턴스에 보낼 것은 엔티티별로 합쳐 메시지 하나로 보낸다 (batch insert 등)
+        private final Map<String, Invalidation> remote = new LinkedHashMap<>();
+        private final List<Invalidation> local = new ArrayList<>();
+
+        private void add(final Invalidation invalidation, final boolean evictLocally) {
+            remote.merge(invalidation.entityName(), invalidation, Invalidation::merge);
+            if (evictLocally) {
+                local.add(invalidation);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            local.forEach(SecondLevelCacheInvalidator.this::evict);
+            publish(remote.values());
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SecondLevelCacheInvalidator.this);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package nutshell.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+// application.yml 에 값이 없을 때 사용하는 기본 설정 (application.yml 이 항상 우선한다)
+@Configuration
+@PropertySource("classpath:server-defaults.properties")
+public class DefaultPropertyConfig {
+}
@@ -9,6 +9,7 @@ public class AuthConstant {
             "/actuator/health",
             "/api/auth/login/google/**",
             "/api/auth/login/google",
+            "/api/google/calendars/notifications",
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/api/test/token/**",
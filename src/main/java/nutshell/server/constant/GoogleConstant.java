@@ -15,4 +15,7 @@ public class GoogleConstant {
     public static final String CODE = "code";
     public static final String TOKEN = "token";
     public static final String APPLICATION_NAME = "nutshell";
+    public static final String CHANNEL_ID_HEADER = "X-Goog-Channel-ID";
+    public static final String CHANNEL_TOKEN_HEADER = "X-Goog-Channel-Token";
+    public static final String RESOURCE_STATE_HEADER = "X-Goog-Resource-State";
 }
@@ -2,8 +2,10 @@ package nutshell.server.controller;
 
 import lombok.RequiredArgsConstructor;
 import nutshell.server.annotation.UserId;
+import nutshell.server.constant.GoogleConstant;
 import nutshell.server.dto.googleCalender.response.GoogleEmailsDto;
 import nutshell.server.service.googleCalendar.GoogleCalendarService;
+import nutshell.server.service.googleChannel.GoogleChannelService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,6 +17,7 @@ import java.net.URI;
 public class GoogleCalendarController {
 
     private final GoogleCalendarService googleCalendarService;
+    private final GoogleChannelService googleChannelService;
 
     @PostMapping("/google/calendars")
     public ResponseEntity<Void> registerCalendar(
@@ -48,4 +51,15 @@ public class GoogleCalendarController {
         googleCalendarService.getSyncs(userId);
         return ResponseEntity.noContent().build();
     }
+
+    // Google Calendar push 알림 수신 (events.watch 채널)
+    @PostMapping("/google/calendars/notifications")
+    public ResponseEntity<Void> receiveNotification(
+            @RequestHeader(GoogleConstant.CHANNEL_ID_HEADER) final String channelId,
+            @RequestHeader(value = GoogleConstant.CHANNEL_TOKEN_HEADER, required = false) final String token,
+            @RequestHeader(GoogleConstant.RESOURCE_STATE_HEADER) final String resourceState
+    ) {
+        googleChannelService.receive(channelId, token, resourceState);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -3,12 +3,16 @@ package nutshell.server.controller;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import nutshell.server.annotation.QueryBudget;
 import nutshell.server.annotation.UserId;
 import nutshell.server.dto.task.request.*;
+import nutshell.server.dto.task.response.TaskBatchCreateResultDto;
 import nutshell.server.dto.task.response.TaskDetailDto;
+import nutshell.server.dto.task.response.TaskHistoryDto;
 import nutshell.server.dto.task.response.TasksDto;
 import nutshell.server.service.task.TaskService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -32,6 +36,17 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    // 여러 task 상태를 한 번에 수정하는 PATCH API
+    @PatchMapping("/tasks/status")
+    @QueryBudget(max = 3)
+    public ResponseEntity<Void> updateStatuses(
+            @UserId final Long userId,
+            @Valid @RequestBody final TaskBulkStatusDto taskBulkStatusDto
+    ) {
+        taskService.updateStatuses(userId, taskBulkStatusDto);
+        return ResponseEntity.noContent().build();
+    }
+
     // Staging Area 에 새로운 Task 생성하는 POST API (데드라인 수정 완료)
     @PostMapping("/tasks")
     public ResponseEntity<Void> createTask(
@@ -41,6 +56,15 @@ public class TaskController {
         return ResponseEntity.created(URI.create(taskService.createTask(userId, taskCreateDto).getId().toString())).build();
     }
 
+    // Staging Area 에 Task 여러 개를 한 번에 생성하는 POST API. 실패한 항목은 index 별 error 로 돌려준다.
+    @PostMapping("/tasks/batch")
+    public ResponseEntity<TaskBatchCreateResultDto> createTasks(
+            @UserId final Long userId,
+            @Valid @RequestBody final TaskBatchCreateDto taskBatchCreateDto
+    ){
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTasks(userId, taskBatchCreateDto));
+    }
+
     //Task 삭제 DELETE API
     @DeleteMapping("/tasks/{taskId}")
     public ResponseEntity<Void> deleteTask(
@@ -64,6 +88,7 @@ public class TaskController {
 
    // Task 리스트 조회 (데드라인 수정 완료)
     @GetMapping("/tasks")
+    @QueryBudget(max = 3)
     public ResponseEntity<TasksDto> getTasks(
             @UserId final Long userId,
             @RequestParam final String order,
@@ -72,6 +97,18 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getTasks(userId, order, targetDate));
     }
 
+    // 보관된 완료 Task 히스토리 조회 (최근 완료 순). 다음 페이지는 이전 응답 마지막 task 의 endDate, id 를 cursor 로 넘긴다.
+    @GetMapping("/tasks/history")
+    @QueryBudget(max = 3)
+    public ResponseEntity<TaskHistoryDto> getTaskHistory(
+            @UserId final Long userId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate cursorEndDate,
+            @RequestParam(required = false) final Long cursorId,
+            @RequestParam(defaultValue = "20") final int size
+    ){
+        return ResponseEntity.ok(taskService.getTaskHistory(userId, cursorEndDate, cursorId, size));
+    }
+
    // Task 설명 수정 PATCH API (데드라인 수정 완료)
     @PatchMapping("/tasks/{taskId}")
     public ResponseEntity<Void> updateTask(
@@ -3,6 +3,7 @@ package nutshell.server.controller;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import nutshell.server.annotation.QueryBudget;
 import nutshell.server.annotation.UserId;
 import nutshell.server.dto.timeBlock.request.TimeBlockRequestDto;
 import nutshell.server.dto.timeBlock.response.TimeBlockTasksDto;
@@ -52,6 +53,7 @@ public class TimeBlockController {
     }
 
     @GetMapping("/time-blocks")
+    @QueryBudget(max = 3)
     public ResponseEntity<TimeBlockTasksDto> getTimeBlocks(
             @UserId final Long userId,
             @RequestParam @JsonFormat(pattern = "yyyy-MM-dd", timezone = "Asia/Seoul") final LocalDate startDate,
@@ -1,10 +1,12 @@
 package nutshell.server.controller;
 
 import lombok.RequiredArgsConstructor;
+import nutshell.server.annotation.QueryBudget;
 import nutshell.server.annotation.UserId;
 import nutshell.server.dto.user.response.UserDto;
 import nutshell.server.service.user.UserService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,7 +18,15 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping
+    @QueryBudget(max = 2)
     public ResponseEntity<UserDto> getUser(@UserId final Long userId){
         return ResponseEntity.ok(userService.getUser(userId));
     }
+
+    // 회원 탈퇴 DELETE API
+    @DeleteMapping
+    public ResponseEntity<Void> deleteUser(@UserId final Long userId){
+        userService.withdraw(userId);
+        return ResponseEntity.noContent().build();
+    }
 }
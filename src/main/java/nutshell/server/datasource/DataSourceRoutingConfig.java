@@ -0,0 +1,96 @@
+package nutshell.server.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// datasource.replica.enabled=true 일 때만 primary / replica 라우팅을 구성한다. 꺼져 있으면 Spring Boot 기본 DataSource 를 그대로 쓴다.
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    @Value("${datasource.replica.urls}")
+    private List<String> REPLICA_URLS;
+    @Value("${datasource.replica.username:${spring.datasource.username}}")
+    private String REPLICA_USERNAME;
+    @Value("${datasource.replica.password:${spring.datasource.password}}")
+    private String REPLICA_PASSWORD;
+    @Value("${datasource.replica.max-lag}")
+    private Duration MAX_LAG;
+    @Value("${datasource.replica.sticky-window}")
+    private Duration STICKY_WINDOW;
+    @Value("${datasource.replica.connection-timeout}")
+    private Duration CONNECTION_TIMEOUT;
+
+    // Flyway 마이그레이션은 항상 primary 에서 실행한다
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") final HikariDataSource primaryDataSource) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < REPLICA_URLS.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(REPLICA_URLS.get(i));
+            replica.setUsername(REPLICA_USERNAME);
+            replica.setPassword(REPLICA_PASSWORD);
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            // 응답하지 않는 replica 는 기본값(30초) 대신 짧게 기다리고 primary 로 넘긴다
+            replica.setConnectionTimeout(CONNECTION_TIMEOUT.toMillis());
+            replica.setValidationTimeout(CONNECTION_TIMEOUT.toMillis());
+            // replica 가 내려가 있어도 애플리케이션은 primary 로 기동되도록 풀 초기화 실패를 허용한다
+            replica.setInitializationFailTimeout(-1);
+            replicas.put("replica-" + i, replica);
+        }
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicas, MAX_LAG);
+        replicaLagMonitor.check();
+        return replicaLagMonitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker() {
+        return new ReadYourWritesTracker(STICKY_WINDOW);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+            final ReplicaLagMonitor replicaLagMonitor,
+            final ReadYourWritesTracker readYourWritesTracker
+    ) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaLagMonitor, readYourWritesTracker);
+    }
+
+    // Spring Boot 가 TransactionExecutionListener 빈을 트랜잭션 매니저에 등록한다
+    @Bean
+    public ReplicaCacheModeListener replicaCacheModeListener(final EntityManagerFactory entityManagerFactory) {
+        return new ReplicaCacheModeListener(entityManagerFactory);
+    }
+
+    // JPA / JdbcTemplate 이 사용하는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+}
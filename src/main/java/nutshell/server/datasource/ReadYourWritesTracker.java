@@ -0,0 +1,57 @@
+package nutshell.server.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 쓰기 트랜잭션을 실행한 사용자는 stickyWindow 동안 읽기도 primary 에서 하도록 기록한다 (인스턴스 로컬)
+public class ReadYourWritesTracker {
+    private final long stickyWindowNanos;
+    // userId -> primary 에 고정되는 만료 시각(nanoTime)
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(final Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+    }
+
+    // 커밋된 뒤부터 stickyWindow 를 센다. 롤백된 쓰기는 기록하지 않는다.
+    public void markWriteAfterCommit(final Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markWrite(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWrite(userId);
+            }
+        });
+    }
+
+    public void markWrite(final Long userId) {
+        if (userId != null) {
+            stickyUntil.put(userId, System.nanoTime() + stickyWindowNanos);
+        }
+    }
+
+    public boolean isSticky(final Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(userId);
+        return until != null && until - System.nanoTime() > 0;
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> until - now <= 0);
+    }
+}
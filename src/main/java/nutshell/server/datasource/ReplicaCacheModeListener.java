@@ -0,0 +1,27 @@
+package nutshell.server.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// readOnly 트랜잭션은 replica 에서 읽을 수 있으므로 2차 캐시를 읽기만 하고 넣지 않는다 (CacheMode.GET).
+// 복제 지연으로 이미 바뀐 값이 캐시에 올라가 무효화 메시지 이후에도 남는 것을 막는다. 캐시는 쓰기 트랜잭션에서 채워진다.
+@RequiredArgsConstructor
+public class ReplicaCacheModeListener implements TransactionExecutionListener {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterBegin(final TransactionExecution transaction, final Throwable beginFailure) {
+        if (beginFailure != null || !transaction.isNewTransaction() || !transaction.isReadOnly()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package nutshell.server.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// replica 별 복제 지연을 주기적으로 확인해서 maxLag 이내인 replica 만 읽기 대상으로 둔다
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+    // WAL 을 모두 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간(초). replica 가 아닌 인스턴스는 0.
+    private static final String LAG_QUERY = "select case " +
+            "when not pg_is_in_recovery() or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    @Getter
+    private final Map<String, DataSource> replicas;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaLagMonitor(final Map<String, DataSource> replicas, final Duration maxLag) {
+        this.replicas = replicas;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    // 지연이 허용 범위인 replica 를 round robin 으로 고른다. 없으면 null (primary 사용)
+    public String nextHealthyReplica() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    // 다음 check 에서 다시 확인될 때까지 제외한다
+    public void markUnhealthy(final String replica) {
+        healthy = healthy.stream().filter(name -> !name.equals(replica)).toList();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval}")
+    public void check() {
+        healthy = replicas.entrySet().stream()
+                .filter(entry -> isHealthy(entry.getKey(), entry.getValue()))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof HikariDataSource hikariDataSource) {
+                hikariDataSource.close();
+            }
+        });
+    }
+
+    private boolean isHealthy(final String name, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+            if (lagSeconds > maxLagSeconds) {
+                log.warn("Replica {} lagging {}s behind primary, routing reads to primary", name, lagSeconds);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Replica {} check failed : {}", name, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package nutshell.server.discord.aggregate;
+
+import ch.qos.logback.core.spi.ContextAwareBase;
+import nutshell.server.discord.external.DiscordSender;
+import nutshell.server.discord.model.DiscordAlert;
+import nutshell.server.discord.model.EmbedObject;
+
+import java.awt.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// appender 와 sender 사이의 집계 단계. fingerprint 별 첫 알림만 바로 보내고 나머지는 주기적으로 요약해서 보낸다.
+public class AlertAggregator extends ContextAwareBase {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final DiscordSender discordSender;
+    private final long windowMillis;
+    private final long summaryIntervalMillis;
+    private final LongSupplier clock;
+    private final Map<String, AlertWindow> windows = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public AlertAggregator(DiscordSender discordSender, long windowMillis, long summaryIntervalMillis) {
+        this(discordSender, windowMillis, summaryIntervalMillis, System::currentTimeMillis);
+    }
+
+    AlertAggregator(DiscordSender discordSender, long windowMillis, long summaryIntervalMillis, LongSupplier clock) {
+        this.discordSender = discordSender;
+        this.windowMillis = windowMillis;
+        this.summaryIntervalMillis = summaryIntervalMillis;
+        this.clock = clock;
+    }
+
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "discord-alert-summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, summaryIntervalMillis, summaryIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+    // 새 문제이거나 window 가 끝난 뒤 다시 발생한 경우에만 true. 그 외에는 발생 횟수만 기록한다.
+    public boolean shouldSend(String fingerprint, String brief) {
+        long now = clock.getAsLong();
+        boolean[] isNew = {false};
+        windows.compute(fingerprint, (key, window) -> {
+            if (window == null || window.isExpired(now, windowMillis)) {
+                if (window != null) {
+                    offerSummary(window.drainSummary());
+                }
+                isNew[0] = true;
+                return new AlertWindow(key, brief, now);
+            }
+            window.record(now);
+            return window;
+        });
+        return isNew[0];
+    }
+
+    // 요약과 만료된 window 제거를 shouldSend 와 같은 key 잠금 안에서 처리해서 그 사이에 기록된 발생을 잃지 않는다
+    void flush() {
+        try {
+            long now = clock.getAsLong();
+            windows.keySet().forEach(fingerprint -> windows.computeIfPresent(fingerprint, (key, window) -> {
+                offerSummary(window.drainSummary());
+                return window.isExpired(now, windowMillis) ? null : window;
+            }));
+        } catch (RuntimeException e) {
+            addError("Discord alert summary failed", e);
+        }
+    }
+
+    private void offerSummary(AlertSummary summary) {
+        if (summary == null) {
+            return;
+        }
+        EmbedObject embed = new EmbedObject()
+                .setTitle("[반복 발생 요약]")
+                .setColor(Color.orange)
+                .setDescription(summary.brief())
+                .addField("[억제된 알림]", summary.suppressedCount() + "회", true)
+                .addField("[누적 발생]", summary.totalCount() + "회", true)
+                .addField("[최초 발생 시각]", format(summary.firstSeenMillis()), false)
+                .addField("[최근 발생 시각]", format(summary.lastSeenMillis()), false)
+                .addField("[발생 간격 p50 / p99]",
+                        summary.gapP50Millis() + "ms / " + summary.gapP99Millis() + "ms",
+                        false);
+        discordSender.offer(new DiscordAlert("summary|" + summary.fingerprint(), List.of(embed)));
+    }
+
+    private static String format(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).format(FORMATTER);
+    }
+}
@@ -0,0 +1,30 @@
+package nutshell.server.discord.aggregate;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import nutshell.server.discord.util.MDCUtil;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlertFingerprint {
+
+    // 예외 클래스 + 최상단 stack frame + 요청 URI 가 같으면 같은 문제로 본다 (메시지는 id 등이 섞여 있어 제외)
+    public static String of(ILoggingEvent eventObject) {
+        String uri = eventObject.getMDCPropertyMap().get(MDCUtil.REQUEST_URI_MDC);
+        IThrowableProxy throwable = eventObject.getThrowableProxy();
+        if (throwable == null) {
+            return eventObject.getLoggerName() + "|" + eventObject.getMessage() + "|" + uri;
+        }
+        return throwable.getClassName() + "|" + getTopFrame(throwable) + "|" + uri;
+    }
+
+    private static String getTopFrame(IThrowableProxy throwable) {
+        StackTraceElementProxy[] frames = throwable.getStackTraceElementProxyArray();
+        if (frames == null || frames.length == 0) {
+            return "";
+        }
+        return frames[0].getStackTraceElement().toString();
+    }
+}
@@ -0,0 +1,13 @@
+package nutshell.server.discord.aggregate;
+
+record AlertSummary(
+        String fingerprint,
+        String brief,
+        int suppressedCount,
+        long totalCount,
+        long firstSeenMillis,
+        long lastSeenMillis,
+        long gapP50Millis,
+        long gapP99Millis
+) {
+}
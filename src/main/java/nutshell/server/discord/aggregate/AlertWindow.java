@@ -0,0 +1,68 @@
+package nutshell.server.discord.aggregate;
+
+import java.util.Arrays;
+
+// fingerprint 하나에 대한 중복 억제 구간. 첫 발생 후 window 가 지나기 전까지의 재발생은 집계만 한다.
+// 마지막 발생 기준으로 두면 계속 반복되는 문제는 window 가 끝나지 않아 다시 알림이 가지 않는다.
+class AlertWindow {
+    private static final int MAX_GAP_SAMPLES = 1024;
+
+    private final String fingerprint;
+    private final String brief;
+    private final long firstSeenMillis;
+    private long lastSeenMillis;
+    private long totalCount;
+    private int suppressedCount;
+    // 발생 간격(ms) 최근 샘플. 꽉 차면 앞에서부터 덮어쓴다.
+    private final long[] gaps = new long[MAX_GAP_SAMPLES];
+    private int gapCount;
+
+    AlertWindow(String fingerprint, String brief, long now) {
+        this.fingerprint = fingerprint;
+        this.brief = brief;
+        this.firstSeenMillis = now;
+        this.lastSeenMillis = now;
+        this.totalCount = 1;
+    }
+
+    synchronized boolean isExpired(long now, long windowMillis) {
+        return now - firstSeenMillis > windowMillis;
+    }
+
+    synchronized void record(long now) {
+        gaps[gapCount++ % MAX_GAP_SAMPLES] = now - lastSeenMillis;
+        lastSeenMillis = now;
+        totalCount++;
+        suppressedCount++;
+    }
+
+    // 지난 요약 이후 억제된 건이 있으면 요약을 만들고 카운터를 비운다
+    synchronized AlertSummary drainSummary() {
+        if (suppressedCount == 0) {
+            return null;
+        }
+        long[] samples = Arrays.copyOf(gaps, Math.min(gapCount, MAX_GAP_SAMPLES));
+        Arrays.sort(samples);
+        AlertSummary summary = new AlertSummary(
+                fingerprint,
+                brief,
+                suppressedCount,
+                totalCount,
+                firstSeenMillis,
+                lastSeenMillis,
+                percentile(samples, 0.5),
+                percentile(samples, 0.99)
+        );
+        suppressedCount = 0;
+        gapCount = 0;
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
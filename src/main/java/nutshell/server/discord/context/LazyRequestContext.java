@@ -0,0 +1,53 @@
+package nutshell.server.discord.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import nutshell.server.discord.util.HttpRequestUtil;
+import nutshell.server.discord.util.MDCUtil;
+
+// 요청 정보의 참조만 보관하고, JSON 변환은 에러 알림을 만들 때만 한다 (정상 요청은 비용 없음)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LazyRequestContext {
+    private static final ThreadLocal<LazyRequestContext> HOLDER = new ThreadLocal<>();
+
+    private final HttpServletRequest request;
+    private final Object principal;
+
+    public static void set(HttpServletRequest request, Object principal) {
+        HOLDER.set(new LazyRequestContext(request, principal));
+    }
+
+    // 요청 스레드가 아니면 null
+    public static LazyRequestContext get() {
+        return HOLDER.get();
+    }
+
+    public static void clear() {
+        HOLDER.remove();
+    }
+
+    public String getRequestUri() {
+        return HttpRequestUtil.getRequestUri(request);
+    }
+
+    public String getUserIp() {
+        return HttpRequestUtil.getUserIP(request);
+    }
+
+    public String getUserInfo() {
+        return MDCUtil.toJson(principal);
+    }
+
+    public String getHeaders() {
+        return MDCUtil.toJson(HttpRequestUtil.getHeaderMap(request));
+    }
+
+    public String getParameters() {
+        return MDCUtil.toJson(HttpRequestUtil.getParamMap(request));
+    }
+
+    public String getBody() {
+        return MDCUtil.toJson(HttpRequestUtil.getBody(request));
+    }
+}
@@ -4,19 +4,23 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.ThrowableProxyUtil;
 import ch.qos.logback.core.UnsynchronizedAppenderBase;
-import io.micrometer.core.instrument.util.StringEscapeUtils;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import nutshell.server.discord.exception.ErrorLogAppenderException;
+import nutshell.server.discord.aggregate.AlertAggregator;
+import nutshell.server.discord.aggregate.AlertFingerprint;
+import nutshell.server.discord.context.LazyRequestContext;
+import nutshell.server.discord.model.DiscordAlert;
 import nutshell.server.discord.util.MDCUtil;
 import nutshell.server.discord.model.EmbedObject;
 import nutshell.server.discord.util.StringUtil;
 
 import java.awt.*;
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Slf4j
 @Setter
@@ -24,6 +28,11 @@ public class DiscordAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
     private String discordWebhookUrl;
     private String username;
     private String avatarUrl;
+    // 같은 fingerprint 의 알림은 첫 발생 시점부터 이 시간 동안 억제하고 요약으로만 보낸다. 지나면 다음 발생을 다시 바로 보낸다.
+    private long dedupWindowSeconds = 300;
+    private long summaryIntervalSeconds = 60;
+    private DiscordSender discordSender;
+    private AlertAggregator alertAggregator;
 
     private static Color getLevelColor(ILoggingEvent eventObject) {
         String level = eventObject.getLevel().levelStr;
@@ -37,11 +46,34 @@ public class DiscordAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
     }
 
     @Override
-    protected void append(ILoggingEvent eventObject) {
-        DiscordWebHook discordWebhook = new DiscordWebHook(discordWebhookUrl, username, avatarUrl, false);
-        Map<String, String> mdcPropertyMap = eventObject.getMDCPropertyMap();
-        Color messageColor = getLevelColor(eventObject);
+    public void start() {
+        discordSender = new DiscordSender(discordWebhookUrl, username, avatarUrl);
+        discordSender.setContext(getContext());
+        discordSender.start();
+        alertAggregator = new AlertAggregator(
+                discordSender,
+                TimeUnit.SECONDS.toMillis(dedupWindowSeconds),
+                TimeUnit.SECONDS.toMillis(summaryIntervalSeconds)
+        );
+        alertAggregator.setContext(getContext());
+        alertAggregator.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (alertAggregator != null) {
+            alertAggregator.stop();
+        }
+        if (discordSender != null) {
+            discordSender.stop();
+        }
+    }
 
+    // 요청 스레드에서는 embed 만 만들어 큐에 넣고 바로 반환한다 (전송은 DiscordSender 스레드가 담당)
+    @Override
+    protected void append(ILoggingEvent eventObject) {
         String level = eventObject.getLevel().levelStr;
         String exceptionBrief = "";
         String exceptionDetail = "";
@@ -55,56 +87,71 @@ public class DiscordAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
             exceptionBrief = "EXCEPTION 정보가 남지 않았습니다.";
         }
 
-        discordWebhook.addEmbed(new EmbedObject()
+        String fingerprint = AlertFingerprint.of(eventObject);
+        if (!alertAggregator.shouldSend(fingerprint, exceptionBrief)) {
+            return;
+        }
+
+        List<EmbedObject> embeds = new ArrayList<>();
+        // 알림을 보낼 때만 요청 정보를 JSON 으로 변환한다
+        LazyRequestContext context = LazyRequestContext.get();
+        Color messageColor = getLevelColor(eventObject);
+
+        embeds.add(new EmbedObject()
                 .setTitle("[" + level + " - 문제 간략 내용]")
                 .setColor(messageColor)
                 .setDescription(exceptionBrief)
                 .addField("[" + "Exception Level" + "]",
-                        StringEscapeUtils.escapeJson(level),
+                        level,
                         true)
                 .addField("[문제 발생 시각]",
                         LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
                         false)
                 .addField(
                         "[" + MDCUtil.REQUEST_URI_MDC + "]",
-                        StringEscapeUtils.escapeJson(mdcPropertyMap.get(MDCUtil.REQUEST_URI_MDC)),
+                        getContextValue(context, LazyRequestContext::getRequestUri),
                         false)
                 .addField(
                         "[" + MDCUtil.USER_IP_MDC + "]",
-                        StringEscapeUtils.escapeJson(mdcPropertyMap.get(MDCUtil.USER_IP_MDC)),
+                        getContextValue(context, LazyRequestContext::getUserIp),
                         false)
                 .addField(
                         "[" + MDCUtil.USER_INFO + "]",
-                        StringEscapeUtils.escapeJson(mdcPropertyMap.get(MDCUtil.USER_INFO)),
+                        getContextValue(context, LazyRequestContext::getUserInfo),
                         false)
                 .addField(
                         "[" + MDCUtil.HEADER_MAP_MDC + "]",
-                        StringEscapeUtils.escapeJson(mdcPropertyMap.get(MDCUtil.HEADER_MAP_MDC).replaceAll("[\\{\\{\\}]", "")),
+                        getContextValue(context, LazyRequestContext::getHeaders).replaceAll("[\\{\\{\\}]", ""),
                         true)
                 .addField(
                         "[" + MDCUtil.PARAMETER_MAP_MDC + "]",
-                        StringEscapeUtils.escapeJson(
-                                mdcPropertyMap.get(MDCUtil.PARAMETER_MAP_MDC).replaceAll("[\\{\\{\\}]", "")),
+                        getContextValue(context, LazyRequestContext::getParameters).replaceAll("[\\{\\{\\}]", ""),
                         false)
                 .addField("[" + MDCUtil.BODY_MDC + "]",
-                        StringEscapeUtils.escapeJson(StringUtil.translateEscapes(mdcPropertyMap.get(MDCUtil.BODY_MDC))),
+                        StringUtil.translateEscapes(getContextValue(context, LazyRequestContext::getBody)),
                         false)
         );
 
         if (throwable != null) {
             exceptionDetail = ThrowableProxyUtil.asString(throwable);
-            String exception = exceptionDetail.substring(0, 4000);
-            discordWebhook.addEmbed(
+            String exception = exceptionDetail.substring(0, Math.min(exceptionDetail.length(), 4000));
+            embeds.add(
                     new EmbedObject()
                             .setTitle("[Exception 상세 내용]")
                             .setColor(messageColor)
-                            .setDescription(StringEscapeUtils.escapeJson(exception))
+                            .setDescription(exception)
             );
         }
-        try {
-            discordWebhook.execute();
-        } catch (IOException ioException) {
-            throw new ErrorLogAppenderException();
+        if (!discordSender.offer(new DiscordAlert(fingerprint, embeds))) {
+            addWarn("Discord alert dropped : " + exceptionBrief);
+        }
+    }
+
+    private static String getContextValue(LazyRequestContext context, Function<LazyRequestContext, String> getter) {
+        if (context == null) {
+            return MDCUtil.EMPTY_VALUE;
         }
+        String value = getter.apply(context);
+        return value == null ? MDCUtil.EMPTY_VALUE : value;
     }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package nutshell.server.discord.external;
+
+import ch.qos.logback.core.spi.ContextAwareBase;
+import nutshell.server.discord.model.DiscordAlert;
+import nutshell.server.discord.model.DiscordResponse;
+import nutshell.server.discord.model.EmbedObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// 요청 스레드는 큐에 넣기만 하고, 전용 스레드가 모아서 Discord 로 전송한다
+public class DiscordSender extends ContextAwareBase implements Runnable {
+    private static final int QUEUE_CAPACITY = 1000;
+    private static final int MAX_DRAIN_SIZE = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long MAX_RATE_LIMIT_WAIT_MILLIS = 60_000;
+
+    private final String discordWebhookUrl;
+    private final String username;
+    private final String avatarUrl;
+    // lock-free 큐. 크기는 별도 카운터로 제한하고 가득 차면 새 알림은 버린다.
+    private final Queue<DiscordAlert> alerts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private volatile boolean running;
+    private Thread worker;
+
+    public DiscordSender(String discordWebhookUrl, String username, String avatarUrl) {
+        this.discordWebhookUrl = discordWebhookUrl;
+        this.username = username;
+        this.avatarUrl = avatarUrl;
+    }
+
+    public void start() {
+        running = true;
+        worker = new Thread(this, "discord-sender");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    // 절대 블로킹하지 않는다. 큐가 가득 차면 false 를 반환하고 알림을 버린다.
+    public boolean offer(DiscordAlert alert) {
+        if (size.incrementAndGet() > QUEUE_CAPACITY) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        alerts.offer(alert);
+        LockSupport.unpark(worker);
+        return true;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            Map<String, CoalescedAlert> drained = drain();
+            if (drained.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            drained.values().forEach(this::send);
+            int droppedCount = dropped.getAndSet(0);
+            if (droppedCount > 0) {
+                addWarn("Discord alert queue full, dropped " + droppedCount + " alerts");
+            }
+        }
+    }
+
+    // 큐에서 꺼낸 알림 중 key 가 같은 것은 하나로 합치고 발생 횟수를 센다
+    private Map<String, CoalescedAlert> drain() {
+        Map<String, CoalescedAlert> drained = new LinkedHashMap<>();
+        DiscordAlert alert;
+        int count = 0;
+        while (count < MAX_DRAIN_SIZE && (alert = alerts.poll()) != null) {
+            size.decrementAndGet();
+            count++;
+            drained.computeIfAbsent(alert.key(), key -> new CoalescedAlert()).add(alert);
+        }
+        return drained;
+    }
+
+    private void send(CoalescedAlert coalescedAlert) {
+        DiscordWebHook discordWebhook = new DiscordWebHook(discordWebhookUrl, username, avatarUrl, false);
+        List<EmbedObject> embeds = new ArrayList<>(coalescedAlert.first.embeds());
+        if (coalescedAlert.count > 1 && !embeds.isEmpty()) {
+            embeds.get(0).addField("[발생 횟수]", coalescedAlert.count + "회", true);
+        }
+        discordWebhook.addEmbeds(embeds);
+        try {
+            DiscordResponse response = discordWebhook.execute();
+            if (response.isRateLimited()) {
+                waitFor(response.waitMillis());
+                response = discordWebhook.execute();
+            }
+            if (response.status() >= 400) {
+                addWarn("Discord webhook responded " + response.status());
+            }
+            waitFor(response.waitMillis());
+        } catch (Exception e) {
+            addError("Discord webhook call failed", e);
+        }
+    }
+
+    // offer() 의 unpark 로 깨어나더라도 rate limit 이 풀릴 때까지는 다시 기다린다
+    private void waitFor(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(millis, MAX_RATE_LIMIT_WAIT_MILLIS));
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    private static class CoalescedAlert {
+        private DiscordAlert first;
+        private int count;
+
+        private void add(DiscordAlert alert) {
+            if (first == null) {
+                first = alert;
+            }
+            count++;
+        }
+    }
+}
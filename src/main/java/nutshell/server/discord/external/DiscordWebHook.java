@@ -1,11 +1,10 @@
 package nutshell.server.discord.external;
 
-import nutshell.server.discord.exception.ErrorLogAppenderException;
-import nutshell.server.discord.model.*;
-import nutshell.server.discord.model.Image;
+import nutshell.server.discord.model.DiscordResponse;
+import nutshell.server.discord.model.EmbedObject;
 import nutshell.server.discord.util.ApiCallUtil;
+import nutshell.server.discord.util.DiscordPayloadUtil;
 
-import java.awt.*;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,115 +28,18 @@ public class DiscordWebHook {
         this.embedObjects.add(embed);
     }
 
-    public void execute() throws IOException {
-        if (this.embedObjects.isEmpty()) {
-            throw new RuntimeException("컨텐츠를 설정하거나 하나 이상의 Embed Object를 추가해야 합니다.");
-        }
-
-        try {
-            ApiCallUtil.callDiscordAppenderPostAPI(
-                    this.urlString, createDiscordEmbedObject(
-                            this.embedObjects, initializerDiscordSendForJsonObject(new JsonObject())
-                    )
-            );
-        } catch (IOException ioException) {
-            throw ioException;
-        }
+    public void addEmbeds(List<EmbedObject> embeds) {
+        this.embedObjects.addAll(embeds);
     }
 
-    private JsonObject initializerDiscordSendForJsonObject(JsonObject jsonObject) {
-        jsonObject.put("username", this.username);
-        jsonObject.put("avatar_url", this.avataUrl);
-        jsonObject.put("tts", this.tts);
-        return jsonObject;
-    }
-
-    private JsonObject createDiscordEmbedObject(List<EmbedObject> embeds, JsonObject jsonObject) {
-        if (embeds.isEmpty()) {
-            throw new ErrorLogAppenderException();
-        }
-
-        List<JsonObject> embedObjects = new ArrayList<>();
-
-        for (EmbedObject embed : embeds) {
-            JsonObject jsonEmbed = new JsonObject();
-
-            jsonEmbed.put("title", embed.getTitle());
-            jsonEmbed.put("description", embed.getDescription());
-            jsonEmbed.put("url", embed.getUrl());
-
-            processDiscordEmbedColor(embed, jsonEmbed);
-            processDiscordEmbedFooter(embed.getFooter(), jsonEmbed);
-            processDiscordEmbedImage(embed.getImage(), jsonEmbed);
-            processDiscordEmbedThumbnail(embed.getThumbnail(), jsonEmbed);
-            processDiscordEmbedAuthor(embed.getAuthor(), jsonEmbed);
-            processDiscordEmbedMessageFields(embed.getFields(), jsonEmbed);
-
-            embedObjects.add(jsonEmbed);
-
-        }
-        jsonObject.put("embeds", embedObjects.toArray());
-        return jsonObject;
-    }
-
-    private void processDiscordEmbedColor(EmbedObject embed, JsonObject jsonEmbed) {
-        if (embed.getColor() != null) {
-            Color color = embed.getColor();
-            int rgb = color.getRed();
-            rgb = (rgb << 8) + color.getGreen();
-            rgb = (rgb << 8) + color.getBlue();
-
-            jsonEmbed.put("color", rgb);
-        }
-    }
-
-    private void processDiscordEmbedFooter(Footer footer, JsonObject jsonEmbed) {
-        if(footer != null){
-            JsonObject jsonFooter = new JsonObject();
-            jsonFooter.put("text", footer.text());
-            jsonFooter.put("icon_url", footer.iconUrl());
-            jsonEmbed.put("footer", jsonFooter);
-        }
-    }
-
-    private void processDiscordEmbedImage(Image image, JsonObject jsonEmbed){
-        if (image != null) {
-            JsonObject jsonImage = new JsonObject();
-            jsonImage.put("url", image.url());
-            jsonEmbed.put("image", jsonImage);
-        }
-    }
-
-    private void processDiscordEmbedThumbnail(Thumbnail thumbnail, JsonObject jsonEmbed){
-        if (thumbnail != null) {
-            JsonObject jsonThumbnail = new JsonObject();
-            jsonThumbnail.put("url", thumbnail.url());
-            jsonEmbed.put("thumbnail", jsonThumbnail);
-        }
-    }
-
-    private void processDiscordEmbedAuthor(Author author, JsonObject jsonEmbed){
-        if (author != null) {
-            JsonObject jsonAuthor = new JsonObject();
-            jsonAuthor.put("name", author.name());
-            jsonAuthor.put("url", author.url());
-            jsonAuthor.put("icon_url", author.iconUrl());
-            jsonEmbed.put("author", jsonAuthor);
+    public DiscordResponse execute() throws IOException {
+        if (this.embedObjects.isEmpty()) {
+            throw new RuntimeException("컨텐츠를 설정하거나 하나 이상의 Embed Object를 추가해야 합니다.");
         }
-    }
 
-    private void processDiscordEmbedMessageFields(List<Field> fields, JsonObject jsonEmbed) {
-        List<JsonObject> jsonFields = new ArrayList<>();
-
-        for (Field field : fields) {
-            JsonObject jsonField = new JsonObject();
-
-            jsonField.put("name", field.name());
-            jsonField.put("value", field.value());
-            jsonField.put("inline", field.inline());
-
-            jsonFields.add(jsonField);
-        }
-        jsonEmbed.put("fields", jsonFields.toArray());
+        return ApiCallUtil.callDiscordAppenderPostAPI(
+                this.urlString,
+                out -> DiscordPayloadUtil.write(out, this.username, this.avataUrl, this.tts, this.embedObjects)
+        );
     }
-}
\ No newline at end of file
+}
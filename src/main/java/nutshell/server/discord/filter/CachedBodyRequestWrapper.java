@@ -4,32 +4,53 @@ import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import org.springframework.util.StreamUtils;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 public class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
 
-    private final byte[] cachedBody;
+    private final int maxCaptureBytes;
+    private CachedBodyServletInputStream inputStream;
+    private BufferedReader reader;
 
-    public CachedBodyRequestWrapper(HttpServletRequest request) throws IOException {
+    public CachedBodyRequestWrapper(HttpServletRequest request, int maxCaptureBytes) {
         super(request);
-        this.cachedBody = StreamUtils.copyToByteArray(request.getInputStream());
+        this.maxCaptureBytes = maxCaptureBytes;
     }
 
+    // 본문을 미리 읽지 않는다. 애플리케이션이 읽는 만큼만 흘려보내면서 앞부분을 저장한다.
     @Override
-    public ServletInputStream getInputStream() {
-        return new CachedBodyServletInputStream(this.cachedBody);
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new CachedBodyServletInputStream(super.getInputStream(), maxCaptureBytes);
+        }
+        return inputStream;
     }
 
     @Override
-    public BufferedReader getReader() {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.cachedBody);
-        return new BufferedReader(new InputStreamReader(byteArrayInputStream));
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), getBodyCharset()));
+        }
+        return reader;
     }
 
+    // 지금까지 읽힌 본문의 앞부분. 저장 한도를 넘긴 경우 잘렸다는 표시를 붙인다.
     public String getBody() {
-        return new String(cachedBody);
+        if (inputStream == null) {
+            return "";
+        }
+        String body = new String(inputStream.getCaptured(), getBodyCharset());
+        return inputStream.isTruncated() ? body + "...(truncated)" : body;
+    }
+
+    private Charset getBodyCharset() {
+        String encoding = getCharacterEncoding();
+        if (encoding == null || !Charset.isSupported(encoding)) {
+            return StandardCharsets.UTF_8;
+        }
+        return Charset.forName(encoding);
     }
 }
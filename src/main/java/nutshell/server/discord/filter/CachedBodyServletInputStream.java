@@ -4,42 +4,80 @@ import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 
+// 원본 스트림을 그대로 흘려보내면서 앞부분 maxCaptureBytes 만큼만 복사해 둔다 (tee)
 @Slf4j
 public class CachedBodyServletInputStream extends ServletInputStream {
 
-    private final InputStream cachedBodyInputStream;
+    private final ServletInputStream delegate;
+    private final int maxCaptureBytes;
+    private final ByteArrayOutputStream captured;
+    private boolean truncated;
 
-    public CachedBodyServletInputStream(byte[] cachedBody) {
-        this.cachedBodyInputStream = new ByteArrayInputStream(cachedBody);
+    public CachedBodyServletInputStream(ServletInputStream delegate, int maxCaptureBytes) {
+        this.delegate = delegate;
+        this.maxCaptureBytes = maxCaptureBytes;
+        this.captured = new ByteArrayOutputStream(Math.min(maxCaptureBytes, 1024));
     }
 
     @Override
     public boolean isFinished() {
-        // 현재 읽을 수 있는 Byte 수가 0이라면 True를 반환
-        try {
-            return cachedBodyInputStream.available() == 0;
-        } catch (IOException e) {
-            log.error("cachedBodyInputStream.available 실패");
-        }
-        return false;
+        return delegate.isFinished();
     }
 
     @Override
     public boolean isReady() {
-        return true;
+        return delegate.isReady();
     }
 
     @Override
     public void setReadListener(ReadListener listener) {
-        throw new UnsupportedOperationException();
+        delegate.setReadListener(listener);
     }
 
     @Override
     public int read() throws IOException {
-        return cachedBodyInputStream.read();
+        int b = delegate.read();
+        if (b != -1) {
+            capture(b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int read = delegate.read(b, off, len);
+        if (read > 0) {
+            capture(b, off, read);
+        }
+        return read;
+    }
+
+    public byte[] getCaptured() {
+        return captured.toByteArray();
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    private void capture(int b) {
+        if (captured.size() < maxCaptureBytes) {
+            captured.write(b);
+        } else {
+            truncated = true;
+        }
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        int capacity = maxCaptureBytes - captured.size();
+        if (capacity > 0) {
+            captured.write(b, off, Math.min(capacity, len));
+        }
+        if (len > capacity) {
+            truncated = true;
+        }
     }
-}
\ No newline at end of file
+}
@@ -6,8 +6,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nutshell.server.discord.context.LazyRequestContext;
 import nutshell.server.discord.util.HttpRequestUtil;
 import nutshell.server.discord.util.MDCUtil;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,16 +28,17 @@ public class MDCFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        HttpServletRequest httpReq = WebUtils.getNativeRequest(request, HttpServletRequest.class);
-
-        MDCUtil.setJsonValue(MDCUtil.REQUEST_URI_MDC, HttpRequestUtil.getRequestUri(Objects.requireNonNull(httpReq)));
-        MDCUtil.setJsonValue(MDCUtil.USER_IP_MDC, HttpRequestUtil.getUserIP(Objects.requireNonNull(httpReq)));
-        MDCUtil.setJsonValue(MDCUtil.USER_INFO, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
-        MDCUtil.setJsonValue(MDCUtil.HEADER_MAP_MDC, HttpRequestUtil.getHeaderMap(httpReq));
-        MDCUtil.setJsonValue(MDCUtil.PARAMETER_MAP_MDC, HttpRequestUtil.getParamMap(httpReq));
-        MDCUtil.setJsonValue(MDCUtil.BODY_MDC, HttpRequestUtil.getBody(httpReq));
-
-        filterChain.doFilter(request, response);
-
+        HttpServletRequest httpReq = Objects.requireNonNull(WebUtils.getNativeRequest(request, HttpServletRequest.class));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        // URI 는 fingerprint 에 쓰이므로 MDC 에 바로 넣고, 나머지는 참조만 보관한다
+        MDC.put(MDCUtil.REQUEST_URI_MDC, HttpRequestUtil.getRequestUri(httpReq));
+        LazyRequestContext.set(httpReq, authentication == null ? null : authentication.getPrincipal());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            LazyRequestContext.clear();
+            MDC.remove(MDCUtil.REQUEST_URI_MDC);
+        }
     }
-}
\ No newline at end of file
+}
@@ -5,18 +5,31 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 @Slf4j
 public class ServletWrappingFilter extends OncePerRequestFilter {
+    // 에러 알림용으로 저장하는 본문 최대 크기
+    private static final int MAX_CAPTURE_BYTES = 8 * 1024;
+
     @Override
     protected void doFilterInternal(final HttpServletRequest request,
                                     final HttpServletResponse response,
                                     final FilterChain filterChain)
             throws ServletException, IOException {
-        CachedBodyRequestWrapper cachedBodyRequestWrapper = new CachedBodyRequestWrapper(request);
+        CachedBodyRequestWrapper cachedBodyRequestWrapper = new CachedBodyRequestWrapper(request, MAX_CAPTURE_BYTES);
         filterChain.doFilter(cachedBodyRequestWrapper, response);
     }
+
+    // 본문이 없는 GET 과 파일 업로드(multipart)는 감싸지 않는다
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return HttpMethod.GET.matches(request.getMethod())
+                || (contentType != null && contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA.getType() + "/"));
+    }
 }
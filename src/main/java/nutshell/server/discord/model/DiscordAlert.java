@@ -0,0 +1,10 @@
+package nutshell.server.discord.model;
+
+import java.util.List;
+
+// 전송 대기 중인 Discord 알림. key 가 같은 알림은 전송 시 하나의 embed 로 합쳐진다.
+public record DiscordAlert(
+        String key,
+        List<EmbedObject> embeds
+) {
+}
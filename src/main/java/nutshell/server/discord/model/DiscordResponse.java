@@ -0,0 +1,23 @@
+package nutshell.server.discord.model;
+
+// Discord Webhook 응답 상태와 X-RateLimit 헤더 정보
+public record DiscordResponse(
+        int status,
+        int remaining,
+        long resetAfterMillis,
+        long retryAfterMillis
+) {
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    public boolean isRateLimited() {
+        return status == TOO_MANY_REQUESTS;
+    }
+
+    // 다음 요청을 보내기 전에 기다려야 하는 시간
+    public long waitMillis() {
+        if (isRateLimited()) {
+            return Math.max(retryAfterMillis, resetAfterMillis);
+        }
+        return remaining == 0 ? resetAfterMillis : 0;
+    }
+}
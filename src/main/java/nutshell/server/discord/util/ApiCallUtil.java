@@ -3,34 +3,68 @@ package nutshell.server.discord.util;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import nutshell.server.discord.model.JsonObject;
+import nutshell.server.discord.model.DiscordResponse;
 
-import javax.net.ssl.HttpsURLConnection;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ApiCallUtil {
+    private static final int CONNECT_TIMEOUT_MILLIS = 3000;
+    private static final int READ_TIMEOUT_MILLIS = 5000;
 
-    public static void callDiscordAppenderPostAPI(String urlString, JsonObject json)
+    // disconnect() 하지 않고 응답 스트림을 끝까지 읽고 닫아서 JDK keep-alive 캐시가 연결을 재사용하게 한다
+    public static DiscordResponse callDiscordAppenderPostAPI(String urlString, BodyWriter bodyWriter)
         throws IOException{
         URL url = new URL(urlString);
-        HttpsURLConnection connection = (HttpsURLConnection) url.openConnection();
-        connection.addRequestProperty("Content-Type", "application/json");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        connection.addRequestProperty("Content-Type", "application/json; charset=UTF-8");
         connection.addRequestProperty("User-Agent", "Java-DiscordWebhook-BY-Gelox_");
         connection.setDoOutput(true);
         connection.setRequestMethod("POST");
 
         try (OutputStream stream = connection.getOutputStream()) {
-            stream.write(json.toString().getBytes());
-            stream.flush();
+            bodyWriter.write(stream);
+        }
+
+        int status = connection.getResponseCode();
+        try (InputStream response = status >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+            if (response != null) {
+                response.readAllBytes();
+            }
+        }
+        return new DiscordResponse(
+                status,
+                parseInt(connection.getHeaderField("X-RateLimit-Remaining"), -1),
+                parseSeconds(connection.getHeaderField("X-RateLimit-Reset-After")),
+                parseSeconds(connection.getHeaderField("Retry-After"))
+        );
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
 
-            connection.getInputStream().close();
-            connection.disconnect();
-        } catch (IOException ioException) {
-            throw ioException;
+    private static long parseSeconds(String value) {
+        try {
+            return value == null ? 0 : (long) (Double.parseDouble(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            return 0;
         }
     }
 }
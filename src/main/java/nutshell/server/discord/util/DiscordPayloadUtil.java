@@ -0,0 +1,98 @@
+package nutshell.server.discord.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import nutshell.server.discord.model.Author;
+import nutshell.server.discord.model.EmbedObject;
+import nutshell.server.discord.model.Field;
+import nutshell.server.discord.model.Footer;
+import nutshell.server.discord.model.Image;
+import nutshell.server.discord.model.Thumbnail;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DiscordPayloadUtil {
+    // thread-safe. 생성기의 버퍼는 JsonFactory 가 재사용한다.
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // 중간 문자열 없이 연결의 출력 스트림에 바로 UTF-8 JSON 을 쓴다. 문자열 escape 는 JsonGenerator 가 처리한다.
+    public static void write(OutputStream out, String username, String avatarUrl, boolean tts, List<EmbedObject> embeds)
+            throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            writeString(generator, "username", username);
+            writeString(generator, "avatar_url", avatarUrl);
+            generator.writeBooleanField("tts", tts);
+            generator.writeArrayFieldStart("embeds");
+            for (EmbedObject embed : embeds) {
+                writeEmbed(generator, embed);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeEmbed(JsonGenerator generator, EmbedObject embed) throws IOException {
+        generator.writeStartObject();
+        writeString(generator, "title", embed.getTitle());
+        writeString(generator, "description", embed.getDescription());
+        writeString(generator, "url", embed.getUrl());
+
+        Color color = embed.getColor();
+        if (color != null) {
+            generator.writeNumberField("color", color.getRGB() & 0xFFFFFF);
+        }
+        Footer footer = embed.getFooter();
+        if (footer != null) {
+            generator.writeObjectFieldStart("footer");
+            writeString(generator, "text", footer.text());
+            writeString(generator, "icon_url", footer.iconUrl());
+            generator.writeEndObject();
+        }
+        Image image = embed.getImage();
+        if (image != null) {
+            generator.writeObjectFieldStart("image");
+            writeString(generator, "url", image.url());
+            generator.writeEndObject();
+        }
+        Thumbnail thumbnail = embed.getThumbnail();
+        if (thumbnail != null) {
+            generator.writeObjectFieldStart("thumbnail");
+            writeString(generator, "url", thumbnail.url());
+            generator.writeEndObject();
+        }
+        Author author = embed.getAuthor();
+        if (author != null) {
+            generator.writeObjectFieldStart("author");
+            writeString(generator, "name", author.name());
+            writeString(generator, "url", author.url());
+            writeString(generator, "icon_url", author.iconUrl());
+            generator.writeEndObject();
+        }
+
+        generator.writeArrayFieldStart("fields");
+        for (Field field : embed.getFields()) {
+            generator.writeStartObject();
+            writeString(generator, "name", field.name());
+            writeString(generator, "value", field.value());
+            generator.writeBooleanField("inline", field.inline());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    // 기존 JsonObject 와 같이 null 값은 필드 자체를 생략한다
+    private static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+}
@@ -4,8 +4,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.slf4j.MDC;
-import org.slf4j.spi.MDCAdapter;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class MDCUtil {
@@ -16,20 +14,19 @@ public class MDCUtil {
     public static final String HEADER_MAP_MDC = "HTTP 헤더 정보";
     public static final String PARAMETER_MAP_MDC = "Parameter 정보";
     public static final String BODY_MDC = "HTTP Body 정보";
+    public static final String EMPTY_VALUE = "내용 없음";
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final MDCAdapter mdc = MDC.getMDCAdapter();
 
-    public static void setJsonValue(String key, Object value) throws JsonProcessingException {
+    // 알림을 만들 때만 호출된다. 변환에 실패해도 알림 자체는 보내야 하므로 예외를 던지지 않는다.
+    public static String toJson(Object value) {
+        if (value == null) {
+            return EMPTY_VALUE;
+        }
         try {
-            if (value != null) {
-                String json = objectMapper.writerWithDefaultPrettyPrinter()
-                        .writeValueAsString(value);
-                mdc.put(key, json);
-            } else {
-                mdc.put(key, "내용 없음");
-            }
+            return objectMapper.writerWithDefaultPrettyPrinter()
+                    .writeValueAsString(value);
         } catch (JsonProcessingException ex) {
-            throw ex;
+            return String.valueOf(value);
         }
     }
 }
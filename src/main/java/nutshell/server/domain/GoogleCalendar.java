@@ -5,15 +5,20 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 public class GoogleCalendar {
     @Id
-    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "google_calendar_id_generator")
+    @SequenceGenerator(name = "google_calendar_id_generator", sequenceName = "google_calendar_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "refresh_token", nullable = false, unique = true)
@@ -28,6 +33,9 @@ public class GoogleCalendar {
     @Column(name = "serial_id", nullable = false, unique = true)
     private String serialId;
 
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -39,8 +47,9 @@ public class GoogleCalendar {
     private User user;
 
     @Builder
-    public GoogleCalendar(String accessToken, String refreshToken, String email, String serialId, User user) {
+    public GoogleCalendar(String accessToken, String refreshToken, LocalDateTime expiresAt, String email, String serialId, User user) {
         this.accessToken = accessToken;
+        this.expiresAt = expiresAt;
         this.refreshToken = refreshToken;
         this.serialId = serialId;
         this.email = email;
@@ -49,8 +58,9 @@ public class GoogleCalendar {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void updateTokens(String accessToken){
+    public void updateTokens(String accessToken, LocalDateTime expiresAt){
         this.accessToken = accessToken;
+        this.expiresAt = expiresAt;
         this.updatedAt = LocalDateTime.now();
     }
 }
@@ -19,13 +19,20 @@ public class GoogleCategory {
     private Long googleCalendarId;
     private String name;
     private String color;
+    // 마지막 events.list 의 nextSyncToken. push 알림이 오면 이 토큰 이후의 변경만 조회한다.
+    private String syncToken;
 
 
     @Builder
-    public GoogleCategory(String id, Long googleCalendarId, String name, String color) {
+    public GoogleCategory(String id, Long googleCalendarId, String name, String color, String syncToken) {
         this.id = id;
         this.googleCalendarId = googleCalendarId;
         this.name = name;
         this.color = color;
+        this.syncToken = syncToken;
+    }
+
+    public void updateSyncToken(String syncToken) {
+        this.syncToken = syncToken;
     }
 }
@@ -0,0 +1,39 @@
+package nutshell.server.domain;
+
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+import org.springframework.data.redis.core.index.Indexed;
+
+// Google Calendar events.watch 로 등록한 push 알림 채널
+@Getter
+@RedisHash(value="google_channel")
+@NoArgsConstructor(access= AccessLevel.PROTECTED)
+public class GoogleChannel {
+    @Id
+    private String id;
+    @Indexed
+    private Long googleCalendarId;
+    private String calendarId;
+    private String resourceId;
+    private String token;
+    private Long expiration;
+    @TimeToLive
+    private Long timeToLive;
+
+    @Builder
+    public GoogleChannel(String id, Long googleCalendarId, String calendarId, String resourceId, String token, Long expiration) {
+        this.id = id;
+        this.googleCalendarId = googleCalendarId;
+        this.calendarId = calendarId;
+        this.resourceId = resourceId;
+        this.token = token;
+        this.expiration = expiration;
+        // 채널이 만료되면 Redis 에서도 함께 사라지도록 만료 시각까지의 TTL 을 둔다
+        this.timeToLive = Math.max((expiration - System.currentTimeMillis()) / 1000, 1);
+    }
+}
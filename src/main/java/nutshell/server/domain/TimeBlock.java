@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 public class TimeBlock {
     @Id
-    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_block_id_generator")
+    @SequenceGenerator(name = "time_block_id_generator", sequenceName = "time_block_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name="start_time", nullable = false)
@@ -1,6 +1,7 @@
 package nutshell.server.dto.googleCalender.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
@@ -20,7 +21,10 @@ public record GoogleSchedulesDto(
             LocalDateTime startTime,
             @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm")
             LocalDateTime endTime,
-            Boolean allDay
+            Boolean allDay,
+            // 증분 동기화에서 변경/삭제된 일정을 찾기 위한 Google event id (응답에는 내보내지 않는다)
+            @JsonIgnore
+            String eventId
     ) {
     }
 }
\ No newline at end of file
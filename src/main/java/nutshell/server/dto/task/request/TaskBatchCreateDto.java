@@ -0,0 +1,14 @@
+package nutshell.server.dto.task.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// 각 항목은 서비스에서 개별 검증한다 (실패한 항목만 결과에 담고 나머지는 생성)
+public record TaskBatchCreateDto(
+        @NotEmpty
+        @Size(max = 500)
+        List<TaskCreateDto> tasks
+) {
+}
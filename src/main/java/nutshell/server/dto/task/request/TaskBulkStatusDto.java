@@ -0,0 +1,19 @@
+package nutshell.server.dto.task.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// targetDate, status 의 의미는 TaskStatusDto 와 같다
+public record TaskBulkStatusDto(
+        @NotEmpty
+        @Size(max = 500)
+        List<Long> taskIds,
+        @JsonFormat(pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+        LocalDate targetDate,
+        String status
+) {
+}
@@ -2,12 +2,14 @@ package nutshell.server.dto.task.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 
 public record TaskCreateDto(
         @NotBlank
+        @Size(max = 255)
         String name,
         DeadLine deadLine
 
@@ -0,0 +1,21 @@
+package nutshell.server.dto.task.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record TaskBatchCreateResultDto(
+        int createdCount,
+        int failedCount,
+        List<Result> results
+) {
+    // 요청 순서대로. 생성되면 id, 실패하면 error 가 채워진다.
+    @Builder
+    public record Result(
+            int index,
+            Long id,
+            String error
+    ) {
+    }
+}
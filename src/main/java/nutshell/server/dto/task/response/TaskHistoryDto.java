@@ -0,0 +1,37 @@
+package nutshell.server.dto.task.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import nutshell.server.dto.task.request.TaskCreateDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// hasNext 가 true 면 마지막 task 의 endDate, id 를 cursor 로 다음 페이지를 조회한다
+@Builder
+public record TaskHistoryDto(
+        List<TaskDto> tasks,
+        Boolean hasNext
+) {
+    @Builder
+    public record TaskDto(
+            Long id,
+            String name,
+            String description,
+            TaskCreateDto.DeadLine deadLine,
+            @JsonFormat(pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
+            LocalDate endDate,
+            List<TimeBlock> timeBlocks
+    ) {
+    }
+
+    @Builder
+    public record TimeBlock(
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+            LocalDateTime startTime,
+            @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm", timezone = "Asia/Seoul")
+            LocalDateTime endTime
+    ) {
+    }
+}
@@ -19,8 +19,10 @@ public enum BusinessErrorCode implements DefaultErrorCode{
     BUSINESS_TODAY(HttpStatus.OK, "conflict", "오늘 이전 날짜로는 할 일 할당할 수 없습니다."),
     BUSINESS_PERIOD(HttpStatus.OK,"conflict","올바른 기간을 설정해 주세요."),
     GOOGLE_SERVER_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "external", "구글 서버 내부 오류입니다."),
+    GOOGLE_TOKEN_REISSUE_FAILED(HttpStatus.SERVICE_UNAVAILABLE, "external", "구글 토큰 재발급에 실패했습니다."),
     GOOGLE_SERVER_EXIST(HttpStatus.OK, "conflict", "이미 연동한 구글 계정입니다."),
     NOT_SAME_UPDATE_DATE(HttpStatus.OK, "conflict", "같은 날에만 수정할 수 있습니다."),
+    CONCURRENT_UPDATE_CONFLICT(HttpStatus.OK, "conflict", "다른 요청에서 먼저 수정되었습니다. 다시 시도해 주세요."),
     ;
     @JsonIgnore
     private final HttpStatus httpStatus;
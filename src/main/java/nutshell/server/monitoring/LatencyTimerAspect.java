@@ -0,0 +1,54 @@
+package nutshell.server.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// controller 와 Retriever/Saver 메서드별 지연 시간 히스토그램
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LatencyTimerAspect {
+    private static final String CONTROLLER_TIMER = "nutshell.controller";
+    private static final String COMPONENT_TIMER = "nutshell.component";
+
+    private final MeterRegistry meterRegistry;
+    // 매 호출마다 태그로 Timer 를 찾지 않도록 메서드별로 캐싱한다
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("within(nutshell.server.controller..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, CONTROLLER_TIMER);
+    }
+
+    @Around("execution(* nutshell.server.service..*Retriever.*(..)) || execution(* nutshell.server.service..*Saver.*(..))")
+    public Object timeComponent(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, COMPONENT_TIMER);
+    }
+
+    private Object record(ProceedingJoinPoint joinPoint, String name) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = timers.computeIfAbsent(method, key -> Timer.builder(name)
+                .tag("class", key.getDeclaringClass().getSimpleName())
+                .tag("method", key.getName())
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
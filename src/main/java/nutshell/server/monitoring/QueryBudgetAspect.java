@@ -0,0 +1,60 @@
+package nutshell.server.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nutshell.server.annotation.QueryBudget;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetAspect {
+    private static final String METRIC_NAME = "nutshell.query.budget.exceeded";
+
+    private final MeterRegistry meterRegistry;
+    // 테스트에서는 true 로 두어 예산 초과를 실패로 만든다. 운영에서는 metric 과 로그만 남긴다.
+    @Value("${monitoring.query-budget.enforce}")
+    private boolean ENFORCE;
+
+    @Around("@annotation(queryBudget)")
+    public Object checkBudget(ProceedingJoinPoint joinPoint, QueryBudget queryBudget) throws Throwable {
+        // 필터를 거치지 않은 호출(테스트에서 controller 직접 호출 등)도 셀 수 있도록 counter 가 없으면 직접 연다
+        boolean started = RequestCallCounter.current() == null;
+        if (started) {
+            RequestCallCounter.start();
+        }
+        RequestCallCounter counter = RequestCallCounter.current();
+        int before = counter.getPostgresCalls();
+        try {
+            Object result = joinPoint.proceed();
+            int used = counter.getPostgresCalls() - before;
+            if (used > queryBudget.max()) {
+                exceed(joinPoint, queryBudget.max(), used);
+            }
+            return result;
+        } finally {
+            if (started) {
+                RequestCallCounter.clear();
+            }
+        }
+    }
+
+    private void exceed(ProceedingJoinPoint joinPoint, int max, int used) {
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Counter.builder(METRIC_NAME)
+                .tag("method", method)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Query budget exceeded on {} : {} / {}", method, used, max);
+        if (ENFORCE) {
+            throw new IllegalStateException("Query budget exceeded on " + method + " : " + used + " / " + max);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package nutshell.server.monitoring;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// query shape 하나의 샘플링된 실행 시간 분포 (1µs ~ 1분, 유효숫자 2자리)
+class QueryShapeStats {
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(1, MAX_TRACKABLE_MICROS, 2);
+    private final LongAdder slowCount = new LongAdder();
+
+    void record(long elapsedMicros, boolean slow) {
+        histogram.recordValue(Math.min(Math.max(elapsedMicros, 1), MAX_TRACKABLE_MICROS));
+        if (slow) {
+            slowCount.increment();
+        }
+    }
+
+    SqlStatsDto toDto(String shape) {
+        return SqlStatsDto.builder()
+                .shape(shape)
+                .sampledCount(histogram.getTotalCount())
+                .slowCount(slowCount.sum())
+                .meanMillis(histogram.getMean() / 1000.0)
+                .p50Millis(histogram.getValueAtPercentile(50) / 1000.0)
+                .p99Millis(histogram.getValueAtPercentile(99) / 1000.0)
+                .maxMillis(histogram.getMaxValue() / 1000.0)
+                .build();
+    }
+}
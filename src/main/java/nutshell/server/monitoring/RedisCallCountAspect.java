@@ -0,0 +1,17 @@
+package nutshell.server.monitoring;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.stereotype.Component;
+
+// JpaRepository 가 아닌 CrudRepository 는 모두 @RedisHash 저장소다
+@Aspect
+@Component
+public class RedisCallCountAspect {
+
+    @Before("execution(* org.springframework.data.repository.CrudRepository+.*(..))"
+            + " && !this(org.springframework.data.jpa.repository.JpaRepository)")
+    public void countRedisCall() {
+        RequestCallCounter.incrementRedis();
+    }
+}
@@ -0,0 +1,54 @@
+package nutshell.server.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청마다 Postgres / Redis 호출 횟수를 세서 URI 패턴별 분포로 기록한다 (security filter 에서의 조회까지 포함)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class RequestCallCountFilter extends OncePerRequestFilter {
+    private static final String METRIC_NAME = "nutshell.request.store.calls";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlProfiler sqlProfiler;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestCallCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestCallCounter counter = RequestCallCounter.current();
+            RequestCallCounter.clear();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+            record(uri, "postgres", counter.getPostgresCalls());
+            record(uri, "redis", counter.getRedisCalls());
+            sqlProfiler.checkNPlusOne(uri, counter);
+        }
+    }
+
+    private void record(String uri, String store, int calls) {
+        DistributionSummary.builder(METRIC_NAME)
+                .tag("uri", uri)
+                .tag("store", store)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry)
+                .record(calls);
+    }
+}
@@ -0,0 +1,54 @@
+package nutshell.server.monitoring;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청 하나에서 발생한 Postgres / Redis 호출 횟수. 요청 스레드 밖(스케줄러 등)에서는 세지 않는다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RequestCallCounter {
+    private static final ThreadLocal<RequestCallCounter> HOLDER = new ThreadLocal<>();
+
+    private int postgresCalls;
+    private int redisCalls;
+    // SQL 문(파라미터는 ? 로 바인딩되어 있어 그대로 shape 로 쓴다) 별 실행 횟수. N+1 탐지용.
+    private final Map<String, Integer> queryShapes = new HashMap<>();
+
+    public static void start() {
+        HOLDER.set(new RequestCallCounter());
+    }
+
+    // 요청 스레드가 아니면 null
+    public static RequestCallCounter current() {
+        return HOLDER.get();
+    }
+
+    public static void clear() {
+        HOLDER.remove();
+    }
+
+    public static void incrementPostgres() {
+        RequestCallCounter counter = HOLDER.get();
+        if (counter != null) {
+            counter.postgresCalls++;
+        }
+    }
+
+    public static void recordQuery(String sql) {
+        RequestCallCounter counter = HOLDER.get();
+        if (counter != null) {
+            counter.queryShapes.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public static void incrementRedis() {
+        RequestCallCounter counter = HOLDER.get();
+        if (counter != null) {
+            counter.redisCalls++;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package nutshell.server.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// datasource-proxy listener. 문장 전체 로깅 대신 일부만 샘플링해서 query shape 별 분포를 메모리에 모은다.
+// 요청별 Postgres 호출 수도 여기서 센다. Hibernate 를 거치지 않는 JDBC(NamedParameterJdbcTemplate 등) 실행까지 포함된다.
+@Slf4j
+@Component
+public class SqlProfiler implements QueryExecutionListener {
+    // shape 종류가 비정상적으로 늘어나도 메모리가 무한히 커지지 않도록 제한
+    private static final int MAX_SHAPES = 500;
+
+    private final Map<String, QueryShapeStats> stats = new ConcurrentHashMap<>();
+    @Value("${monitoring.sql.sample-rate}")
+    private double SAMPLE_RATE;
+    @Value("${monitoring.sql.slow-query-threshold}")
+    private Duration SLOW_QUERY_THRESHOLD;
+    @Value("${monitoring.sql.n-plus-one-threshold}")
+    private int N_PLUS_ONE_THRESHOLD;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        boolean slow = elapsedMillis >= SLOW_QUERY_THRESHOLD.toMillis();
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE;
+        // batch 는 여러 문장이어도 실행 한 번(왕복 한 번)으로 센다
+        RequestCallCounter.incrementPostgres();
+        for (QueryInfo queryInfo : queryInfoList) {
+            String shape = queryInfo.getQuery();
+            RequestCallCounter.recordQuery(shape);
+            if (slow) {
+                log.warn("Slow query {}ms : {}", elapsedMillis, shape);
+            }
+            if (sampled || slow) {
+                QueryShapeStats shapeStats = stats.get(shape);
+                if (shapeStats == null && stats.size() < MAX_SHAPES) {
+                    shapeStats = stats.computeIfAbsent(shape, key -> new QueryShapeStats());
+                }
+                if (shapeStats != null) {
+                    shapeStats.record(TimeUnit.MILLISECONDS.toMicros(elapsedMillis), slow);
+                }
+            }
+        }
+    }
+
+    // 요청이 끝날 때 같은 SQL 이 threshold 이상 반복되었으면 N+1 로 의심한다
+    public void checkNPlusOne(String uri, RequestCallCounter counter) {
+        counter.getQueryShapes().forEach((shape, count) -> {
+            if (count >= N_PLUS_ONE_THRESHOLD) {
+                log.warn("N+1 suspected on {} ({} times) : {}", uri, count, shape);
+            }
+        });
+    }
+
+    public List<SqlStatsDto> getStats() {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble((SqlStatsDto dto) -> dto.meanMillis() * dto.sampledCount()).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+}
@@ -0,0 +1,15 @@
+package nutshell.server.monitoring;
+
+import lombok.Builder;
+
+@Builder
+public record SqlStatsDto(
+        String shape,
+        long sampledCount,
+        long slowCount,
+        double meanMillis,
+        double p50Millis,
+        double p99Millis,
+        double maxMillis
+) {
+}
@@ -0,0 +1,27 @@
+package nutshell.server.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 총 소요 시간 순 query shape 통계(stats), 초기화(reset). SQL 원문이 보이므로 웹에는 노출하지 않고 JMX(org.springframework.boot:type=Endpoint,name=Sqlstats)로만 연다.
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatsEndpoint {
+    private final SqlProfiler sqlProfiler;
+
+    @ReadOperation
+    public List<SqlStatsDto> stats() {
+        return sqlProfiler.getStats();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlProfiler.reset();
+    }
+}
@@ -1,14 +1,18 @@
 package nutshell.server.repository;
 
+import jakarta.persistence.QueryHint;
 import nutshell.server.domain.GoogleCalendar;
 import nutshell.server.domain.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface GoogleCalendarRepository extends JpaRepository<GoogleCalendar, Long> {
     Optional<GoogleCalendar> findByIdAndUser(final Long id, final User user);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<GoogleCalendar> findAllByUser(final User user);
 
     Boolean existsByUserAndEmail(final User user, final String email);
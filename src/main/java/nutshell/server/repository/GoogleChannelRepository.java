@@ -0,0 +1,10 @@
+package nutshell.server.repository;
+
+import nutshell.server.domain.GoogleChannel;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+
+public interface GoogleChannelRepository extends CrudRepository<GoogleChannel, String> {
+    List<GoogleChannel> findAllByGoogleCalendarId(final Long googleCalendarId);
+}
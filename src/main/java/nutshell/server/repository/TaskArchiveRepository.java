@@ -0,0 +1,105 @@
+package nutshell.server.repository;
+
+import lombok.RequiredArgsConstructor;
+import nutshell.server.repository.projection.ArchivedTask;
+import nutshell.server.repository.projection.ArchivedTimeBlock;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+
+// 완료 task 보관(task_archive / time_block_archive) 과 히스토리 조회. 한 번에 여러 행을 옮기므로 JDBC 로 처리한다.
+@Repository
+@RequiredArgsConstructor
+public class TaskArchiveRepository {
+    private static final String TASK_COLUMNS = "id, name, description, priority, dead_line_date, dead_line_time, " +
+            "assigned_date, end_date, reminder, repetition, status, created_at, updated_at, user_id";
+    private static final String TIME_BLOCK_COLUMNS = "id, start_time, end_time, created_at, updated_at, task_id";
+    static final String ARCHIVABLE = "select t.id from task t where t.status = 'DONE' and t.end_date < :cutoff " +
+            "order by t.end_date limit :limit for update skip locked";
+    private static final String SELECT_HISTORY =
+            "select t.id, t.name, t.description, t.dead_line_date, t.dead_line_time, t.end_date " +
+                    "from task_archive t where t.user_id = :userId ";
+    private static final String ORDER_BY_END_DATE_DESC = "order by t.end_date desc, t.id desc limit :limit";
+    static final String HISTORY_FIRST_PAGE = SELECT_HISTORY + ORDER_BY_END_DATE_DESC;
+    static final String HISTORY_NEXT_PAGE = SELECT_HISTORY +
+            "and (t.end_date, t.id) < (:cursorEndDate, :cursorId) " + ORDER_BY_END_DATE_DESC;
+
+    private static final RowMapper<ArchivedTask> ARCHIVED_TASK_MAPPER = (rs, rowNum) -> ArchivedTask.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .description(rs.getString("description"))
+            .deadLineDate(rs.getObject("dead_line_date", LocalDate.class))
+            .deadLineTime(rs.getObject("dead_line_time", LocalTime.class))
+            .endDate(rs.getObject("end_date", LocalDate.class))
+            .build();
+    private static final RowMapper<ArchivedTimeBlock> ARCHIVED_TIME_BLOCK_MAPPER = (rs, rowNum) -> ArchivedTimeBlock.builder()
+            .taskId(rs.getLong("task_id"))
+            .startTime(rs.getObject("start_time", LocalDateTime.class))
+            .endTime(rs.getObject("end_time", LocalDateTime.class))
+            .build();
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 다른 인스턴스가 같은 행을 옮기고 있으면 건너뛴다 (skip locked)
+    public List<Long> lockIdsDoneBefore(final LocalDate cutoff, final int limit) {
+        return namedParameterJdbcTemplate.queryForList(
+                ARCHIVABLE,
+                new MapSqlParameterSource()
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", limit),
+                Long.class
+        );
+    }
+
+    // task_archive 에 먼저 넣고(time_block_archive 의 FK) task 를 지우면 time_block 은 ON DELETE CASCADE 로 함께 지워진다
+    public int moveToArchive(final Collection<Long> taskIds, final LocalDateTime archivedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("taskIds", taskIds)
+                .addValue("archivedAt", archivedAt);
+        namedParameterJdbcTemplate.update(
+                "insert into task_archive (" + TASK_COLUMNS + ", archived_at) " +
+                        "select " + TASK_COLUMNS + ", :archivedAt from task where id in (:taskIds)",
+                parameters
+        );
+        namedParameterJdbcTemplate.update(
+                "insert into time_block_archive (" + TIME_BLOCK_COLUMNS + ") " +
+                        "select " + TIME_BLOCK_COLUMNS + " from time_block where task_id in (:taskIds)",
+                parameters
+        );
+        return namedParameterJdbcTemplate.update("delete from task where id in (:taskIds)", parameters);
+    }
+
+    // cursorEndDate/cursorId 는 이전 페이지 마지막 task 의 값. 첫 페이지면 null
+    public List<ArchivedTask> findAllByUserOrderByEndDateDesc(
+            final Long userId,
+            final LocalDate cursorEndDate,
+            final Long cursorId,
+            final int limit
+    ) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        if (cursorEndDate == null) {
+            return namedParameterJdbcTemplate.query(HISTORY_FIRST_PAGE, parameters, ARCHIVED_TASK_MAPPER);
+        }
+        parameters.addValue("cursorEndDate", cursorEndDate)
+                .addValue("cursorId", cursorId);
+        return namedParameterJdbcTemplate.query(HISTORY_NEXT_PAGE, parameters, ARCHIVED_TASK_MAPPER);
+    }
+
+    public List<ArchivedTimeBlock> findTimeBlocksByTaskIds(final Collection<Long> taskIds) {
+        return namedParameterJdbcTemplate.query(
+                "select tb.task_id, tb.start_time, tb.end_time from time_block_archive tb " +
+                        "where tb.task_id in (:taskIds) order by tb.task_id, tb.start_time",
+                new MapSqlParameterSource("taskIds", taskIds),
+                ARCHIVED_TIME_BLOCK_MAPPER
+        );
+    }
+}
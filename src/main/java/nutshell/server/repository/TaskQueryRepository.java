@@ -0,0 +1,123 @@
+package nutshell.server.repository;
+
+import lombok.RequiredArgsConstructor;
+import nutshell.server.dto.type.Status;
+import nutshell.server.repository.projection.TaskSummary;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Task 목록 조회 전용. 필요한 컬럼만 JDBC 로 읽어 TaskSummary 로 매핑한다.
+@Repository
+@RequiredArgsConstructor
+public class TaskQueryRepository {
+    private static final String SELECT_TASK_SUMMARY =
+            "select t.id, t.name, t.dead_line_date, t.dead_line_time, t.status from task t where t.user_id = :userId ";
+    static final String ASSIGNED = SELECT_TASK_SUMMARY +
+            "and t.assigned_date is not null " +
+            "and ((t.end_date is null and :targetDate >= t.assigned_date) or :targetDate between t.assigned_date and t.end_date) ";
+    static final String STAGING = SELECT_TASK_SUMMARY +
+            "and t.assigned_date is null ";
+    static final String ORDER_BY_CREATED_AT_DESC = "order by t.created_at desc";
+    static final String ORDER_BY_CREATED_AT_ASC = "order by t.created_at asc";
+    static final String ORDER_BY_TIME_DIFF_ASC = "order by abs(current_date - t.dead_line_date) asc nulls last, " +
+            "abs(extract(epoch from current_time - t.dead_line_time)) asc nulls last";
+    static final String ORDER_BY_TIME_DIFF_DESC = "order by abs(current_date - t.dead_line_date) desc nulls last, " +
+            "abs(extract(epoch from current_time - t.dead_line_time)) desc nulls last";
+    static final String ORDER_BY_CUSTOM = "order by array_position(cast(:taskList as bigint[]), t.id)";
+
+    private static final RowMapper<TaskSummary> TASK_SUMMARY_MAPPER = (rs, rowNum) -> TaskSummary.builder()
+            .id(rs.getLong("id"))
+            .name(rs.getString("name"))
+            .deadLineDate(rs.getObject("dead_line_date", LocalDate.class))
+            .deadLineTime(rs.getObject("dead_line_time", LocalTime.class))
+            .status(Status.valueOf(rs.getString("status")))
+            .build();
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByCreatedAtDesc(final Long userId, final LocalDate targetDate) {
+        return findAssigned(userId, targetDate, ORDER_BY_CREATED_AT_DESC);
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByCreatedAtAsc(final Long userId, final LocalDate targetDate) {
+        return findAssigned(userId, targetDate, ORDER_BY_CREATED_AT_ASC);
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByTimeDiffAsc(final Long userId, final LocalDate targetDate) {
+        return findAssigned(userId, targetDate, ORDER_BY_TIME_DIFF_ASC);
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByTimeDiffDesc(final Long userId, final LocalDate targetDate) {
+        return findAssigned(userId, targetDate, ORDER_BY_TIME_DIFF_DESC);
+    }
+
+    public List<TaskSummary> findAllByCustomOrderAndAssignedDateIsNotNull(final Long userId, final LocalDate targetDate, final List<Long> taskList) {
+        return namedParameterJdbcTemplate.query(
+                ASSIGNED + ORDER_BY_CUSTOM,
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("targetDate", targetDate)
+                        .addValue("taskList", toArrayLiteral(taskList)),
+                TASK_SUMMARY_MAPPER
+        );
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByCreatedAtDesc(final Long userId) {
+        return findStaging(userId, ORDER_BY_CREATED_AT_DESC);
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByCreatedAtAsc(final Long userId) {
+        return findStaging(userId, ORDER_BY_CREATED_AT_ASC);
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByTimeDiffAsc(final Long userId) {
+        return findStaging(userId, ORDER_BY_TIME_DIFF_ASC);
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByTimeDiffDesc(final Long userId) {
+        return findStaging(userId, ORDER_BY_TIME_DIFF_DESC);
+    }
+
+    public List<TaskSummary> findAllByCustomOrderAndAssignedDateIsNull(final Long userId, final List<Long> taskList) {
+        return namedParameterJdbcTemplate.query(
+                STAGING + ORDER_BY_CUSTOM,
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("taskList", toArrayLiteral(taskList)),
+                TASK_SUMMARY_MAPPER
+        );
+    }
+
+    private List<TaskSummary> findAssigned(final Long userId, final LocalDate targetDate, final String orderBy) {
+        return namedParameterJdbcTemplate.query(
+                ASSIGNED + orderBy,
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("targetDate", targetDate),
+                TASK_SUMMARY_MAPPER
+        );
+    }
+
+    private List<TaskSummary> findStaging(final Long userId, final String orderBy) {
+        return namedParameterJdbcTemplate.query(
+                STAGING + orderBy,
+                new MapSqlParameterSource("userId", userId),
+                TASK_SUMMARY_MAPPER
+        );
+    }
+
+    // bigint[] 로 cast 할 수 있는 배열 리터럴 ({1,2,3})
+    private String toArrayLiteral(final List<Long> taskList) {
+        if (taskList == null) {
+            return "{}";
+        }
+        return taskList.stream().map(String::valueOf).collect(Collectors.joining(",", "{", "}"));
+    }
+}
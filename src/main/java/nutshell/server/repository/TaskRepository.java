@@ -1,99 +1,55 @@
 package nutshell.server.repository;
 
+import jakarta.persistence.QueryHint;
 import nutshell.server.domain.Task;
 import nutshell.server.domain.User;
+import nutshell.server.dto.type.Status;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Task> findByUserAndId(final User user, final Long aLong);
 
+    // time_block 은 FK 의 ON DELETE CASCADE 로 함께 삭제된다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id = :id")
+    int deleteByIdInBulk(final Long id);
+
+    @Query("select t.id from Task t where t.user = :user and t.id in :ids")
+    List<Long> findIdsByUserAndIdIn(final User user, final Collection<Long> ids);
+
+    // 아래 bulk update 는 TaskService.updateStatus 의 task 단위 로직과 같은 결과를 한 문장으로 만든다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.assignedDate = null, t.endDate = null, t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "where t.user = :user and t.id in :ids")
+    int updateAllToStaging(final User user, final Collection<Long> ids, final Status status, final LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.endDate = :targetDate, t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "where t.user = :user and t.id in :ids")
+    int updateAllToDone(final User user, final Collection<Long> ids, final LocalDate targetDate, final Status status, final LocalDateTime updatedAt);
+
+    // 완료 해제 시 end_date 만 지우고, 아직 할당되지 않은 task 만 targetDate 에 할당한다 (SET 절의 컬럼은 변경 전 값)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set " +
+            "t.assignedDate = case when t.endDate is null and t.assignedDate is null then :targetDate else t.assignedDate end, " +
+            "t.endDate = null, t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1 " +
+            "where t.user = :user and t.id in :ids")
+    int updateAllToUndone(final User user, final Collection<Long> ids, final LocalDate targetDate, final Status status, final LocalDateTime updatedAt);
+
     @Query(value="select t from Task t where t.user = :user " +
             "and exists (select tb from TimeBlock tb " +
             "where tb.task = t and tb.startTime between :startTime and :endTime " +
             "and tb.endTime between :startTime and :endTime)")
     List<Task> findAllByUserAndTimeBlocks(final User user, LocalDateTime startTime, LocalDateTime endTime);
-    @Query(
-            value = "select * from task t where t.user_id = :userId " +
-                    "AND t.assigned_date is not null " +
-                    "AND ((t.end_date is null and :assignedDate >= t.assigned_date) or :assignedDate between t.assigned_date and t.end_date) " +
-                    "order by t.created_at desc"
-            , nativeQuery = true
-    )
-    List<Task> findAllByUserAndAssignedDateOrderByCreatedAtDesc(final Long userId, final LocalDate assignedDate);
-    @Query(
-            value = "select * from task t where t.user_id = :userId " +
-                    "AND t.assigned_date is not null " +
-                    "AND ((t.end_date is null and :assignedDate >= t.assigned_date) or :assignedDate between t.assigned_date and t.end_date) " +
-                    "order by t.created_at asc"
-            , nativeQuery = true
-    )
-    List<Task> findAllByUserAndAssignedDateOrderByCreatedAtAsc(final Long userId, final LocalDate assignedDate);
-
-    @Query(
-            value = "select * from task t where t.user_id = :userId " +
-                    "AND t.assigned_date is not null " +
-                    "AND ((t.end_date is null and :assignedDate >= t.assigned_date) or :assignedDate between t.assigned_date and t.end_date) " +
-                    "order by abs(current_date - t.dead_line_date) asc nulls last, " +
-                    "abs(extract(epoch from current_time - t.dead_line_time)) asc nulls last"
-            , nativeQuery = true
-    )
-    List<Task> findAllByUserAndAssignedDateOrderByTimeDiffAsc(final Long userId, final LocalDate assignedDate);
-
-    @Query(
-            value = "select * from task t where t.user_id = :userId " +
-                    "AND t.assigned_date is not null " +
-                    "AND ((t.end_date is null and :assignedDate >= t.assigned_date) or :assignedDate between t.assigned_date and t.end_date) " +
-                    "order by abs(current_date - t.dead_line_date) desc nulls last, " +
-                    "abs(extract(epoch from current_time - t.dead_line_time)) desc nulls last"
-            , nativeQuery = true
-    )
-    List<Task> findAllByUserAndAssignedDateOrderByTimeDiffDesc(final Long userId, final LocalDate assignedDate);
-    List<Task> findAllByUserAndAssignedDateIsNullOrderByCreatedAtDesc(final User user);
-
-    List<Task> findAllByUserAndAssignedDateIsNullOrderByCreatedAtAsc(final User user);
-
-    @Query(
-            value = "select * from task t where t.user_id = :userId " +
-                    "AND t.assigned_date is null " +
-                    "order by abs(current_date - t.dead_line_date) asc nulls last, " +
-                    "abs(extract(epoch from current_time - t.dead_line_time)) asc nulls last"
-            , nativeQuery = true
-    )
-    List<Task> findAllByUserAndAssignedDateIsNullOrderByTimeDiffAsc(final Long userId);
-
-    @Query(
-            value = "select * from task t where t.user_id = :userId " +
-                    "AND t.assigned_date is null " +
-                    "order by abs(current_date - t.dead_line_date) desc nulls last, " +
-                    "abs(extract(epoch from current_time - t.dead_line_time)) desc nulls last"
-            , nativeQuery = true
-    )
-    List<Task> findAllByUserAndAssignedDateIsNullOrderByTimeDiffDesc(final Long userId);
-
-    @Query(
-            value = "SELECT * FROM task t " +
-            "WHERE t.user_id = :userId " +
-            "AND t.assigned_date IS NOT NULL " +
-            "AND ((t.end_date IS NULL AND :targetDate >= t.assigned_date) OR :targetDate BETWEEN t.assigned_date AND t.end_date) " +
-            "ORDER BY ARRAY_POSITION(CAST(:taskList AS BIGINT[]), t.id)",
-    nativeQuery = true
-    )
-    List<Task> findAllByCustomOrderAndAssignedDateIsNotNull(
-            final Long userId,
-            final LocalDate targetDate,
-            final Long[] taskList
-    );
-    @Query(
-            value = "select * from task t where t.user_id = :userId " +
-                    "AND t.assigned_date is null " +
-                    "ORDER BY ARRAY_POSITION(CAST(:taskList AS BIGINT[]), t.id)"
-            ,nativeQuery = true
-    )
-    List<Task> findAllByCustomOrderAndAssignedDateIsNull(final Long userId, final Long[] taskList);
 }
@@ -3,7 +3,6 @@ package nutshell.server.repository;
 import nutshell.server.domain.Task;
 import nutshell.server.domain.TimeBlock;
 import nutshell.server.domain.User;
-import nutshell.server.dto.timeBlock.response.TimeBlockDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -12,13 +11,16 @@ import java.util.List;
 import java.util.Optional;
 
 public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
+    // earliestStart: 파티션 pruning 을 위한 start_time 하한 (TimeBlock 은 하루를 넘지 않으므로 startTime - 1일)
     @Query(value="select count(t) > 0 from TimeBlock t " +
             "where t.task.user = :user and " +
-            "t.startTime between :startTime and :endTime or " +
-            "t.endTime between :startTime and :endTime"
+            "t.startTime between :earliestStart and :endTime and " +
+            "(t.startTime between :startTime and :endTime or " +
+            "t.endTime between :startTime and :endTime)"
             )
     Boolean existsByTaskUserAndStartTimeBetweenAndEndTimeBetween(
             final User user,
+            final LocalDateTime earliestStart,
             final LocalDateTime startTime,
             final LocalDateTime endTime
     );
@@ -26,12 +28,14 @@ public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
     @Query(value="select count(t) > 0 from TimeBlock t " +
             "where t.task.user = :user and " +
             "t.id != :id and " +
-            "t.startTime between :startTime and :endTime or " +
-            "t.endTime between :startTime and :endTime"
+            "t.startTime between :earliestStart and :endTime and " +
+            "(t.startTime between :startTime and :endTime or " +
+            "t.endTime between :startTime and :endTime)"
     )
     Boolean existsByTaskAndStartTimeBetweenAndEndTimeBetweenAndIdNot(
             final User user,
             final Long id,
+            final LocalDateTime earliestStart,
             final LocalDateTime startTime,
             final LocalDateTime endTime
     );
@@ -48,13 +52,12 @@ public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
     );
 
 
-    @Query("SELECT new nutshell.server.dto.timeBlock.response.TimeBlockDto(t.id, t.startTime, t.endTime) " +
-            "FROM TimeBlock t " +
-            "WHERE t.task = :task " +
+    @Query("SELECT t FROM TimeBlock t " +
+            "WHERE t.task IN :tasks " +
             "AND t.startTime between :startTime and :endTime " +
             "AND t.endTime between :startTime and :endTime")
-    List<TimeBlockDto> findAllByTaskIdAndTimeRange(
-            final Task task,
+    List<TimeBlock> findAllByTasksAndTimeRange(
+            final List<Task> tasks,
             final LocalDateTime startTime,
             final LocalDateTime endTime
     );
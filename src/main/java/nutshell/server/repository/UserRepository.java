@@ -2,9 +2,17 @@ package nutshell.server.repository;
 
 import nutshell.server.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findBySerialIdAndEmail(final String serialId, final String email);
     Optional<User> findById(final Long userId);
+
+    // task, time_block, google_calendar 는 FK 의 ON DELETE CASCADE 로 함께 삭제된다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.id = :id")
+    int deleteByIdInBulk(final Long id);
 }
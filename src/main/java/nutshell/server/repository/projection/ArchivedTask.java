@@ -0,0 +1,18 @@
+package nutshell.server.repository.projection;
+
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// task_archive 의 히스토리 조회용 컬럼
+@Builder
+public record ArchivedTask(
+        Long id,
+        String name,
+        String description,
+        LocalDate deadLineDate,
+        LocalTime deadLineTime,
+        LocalDate endDate
+) {
+}
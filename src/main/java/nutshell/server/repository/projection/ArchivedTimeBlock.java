@@ -0,0 +1,13 @@
+package nutshell.server.repository.projection;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ArchivedTimeBlock(
+        Long taskId,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
@@ -0,0 +1,18 @@
+package nutshell.server.repository.projection;
+
+import lombok.Builder;
+import nutshell.server.dto.type.Status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+// Task 목록 조회에 필요한 컬럼만 담는다 (엔티티/영속성 컨텍스트를 거치지 않음)
+@Builder
+public record TaskSummary(
+        Long id,
+        String name,
+        LocalDate deadLineDate,
+        LocalTime deadLineTime,
+        Status status
+) {
+}
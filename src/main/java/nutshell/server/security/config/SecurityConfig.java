@@ -5,7 +5,9 @@ import nutshell.server.security.filter.JwtAuthenticationFilter;
 import nutshell.server.security.filter.JwtExceptionFilter;
 import nutshell.server.security.handler.JwtAuthenticationEntryPoint;
 import nutshell.server.utils.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,6 +24,11 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    // actuator 는 내부망에만 여는 별도 포트로 서비스하고, 그 포트로 들어온 scrape / health check 는 인증 없이 허용한다
+    @Value("${management.server.port}")
+    private int MANAGEMENT_PORT;
+    @Value("${server.port:8080}")
+    private int SERVER_PORT;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -35,6 +42,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(registry ->
                         registry
                                 .requestMatchers(AuthConstant.AUTH_WHITELIST).permitAll()
+                                .requestMatchers(this::isManagementPort).permitAll()
                                 .anyRequest().authenticated()
                 )
                 .exceptionHandling((exceptionHandling) ->
@@ -48,4 +56,9 @@ public class SecurityConfig {
                         JwtAuthenticationFilter.class)
                 .getOrBuild();
     }
+
+    // 같은 포트로 설정하면 모든 요청이 허용되므로 분리된 경우에만 적용한다
+    private boolean isManagementPort(HttpServletRequest request) {
+        return MANAGEMENT_PORT > 0 && MANAGEMENT_PORT != SERVER_PORT && request.getLocalPort() == MANAGEMENT_PORT;
+    }
 }
\ No newline at end of file
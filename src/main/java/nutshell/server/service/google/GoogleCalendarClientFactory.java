@@ -0,0 +1,89 @@
+package nutshell.server.service.google;
+
+import com.google.api.client.auth.oauth2.BearerToken;
+import com.google.api.client.auth.oauth2.Credential;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import nutshell.server.constant.GoogleConstant;
+import nutshell.server.domain.GoogleCalendar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class GoogleCalendarClientFactory {
+    private static final int MAX_CONNECTIONS = 50;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+    private static final long IDLE_CONNECTION_SECONDS = 30;
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+
+    // 커넥션 풀을 공유하는 transport 하나로 모든 Calendar 클라이언트를 생성한다 (keep-alive 로 TLS 연결 재사용)
+    private final HttpTransport httpTransport = new ApacheHttpTransport(
+            ApacheHttpTransport.newDefaultHttpClientBuilder()
+                    .setMaxConnTotal(MAX_CONNECTIONS)
+                    .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+                    .evictIdleConnections(IDLE_CONNECTION_SECONDS, TimeUnit.SECONDS)
+                    .build()
+    );
+
+    // 로컬 목 서버 등으로 Calendar API(batch 포함) 주소를 바꿀 때만 설정
+    @Value("${google.calendar.root-url:}")
+    private String ROOT_URL;
+
+    // GoogleCalendar id 별 Calendar 클라이언트 캐시. access token 이 바뀌면 새로 생성한다.
+    private final Map<Long, CachedCalendar> calendars = new ConcurrentHashMap<>();
+
+    public Calendar getCalendar(final GoogleCalendar googleCalendar) {
+        final String accessToken = googleCalendar.getAccessToken();
+        return calendars.compute(
+                googleCalendar.getId(),
+                (id, cached) -> cached != null && cached.accessToken().equals(accessToken)
+                        ? cached
+                        : new CachedCalendar(accessToken, createCalendar(accessToken))
+        ).calendar();
+    }
+
+    public void evict(final Long googleCalendarId) {
+        calendars.remove(googleCalendarId);
+    }
+
+    private Calendar createCalendar(final String accessToken) {
+        Credential credential = new Credential.Builder(BearerToken.authorizationHeaderAccessMethod())
+                .setJsonFactory(JSON_FACTORY)
+                .setTransport(httpTransport)
+                .build()
+                .setAccessToken(accessToken);
+        Calendar.Builder builder = new Calendar.Builder(httpTransport, JSON_FACTORY, credential)
+                .setApplicationName(GoogleConstant.APPLICATION_NAME);
+        if (ROOT_URL != null && !ROOT_URL.isBlank()) {
+            builder.setRootUrl(ROOT_URL);
+        }
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        calendars.clear();
+        try {
+            httpTransport.shutdown();
+        } catch (IOException e) {
+            log.error("Google HttpTransport shutdown Error : {}", e.getMessage());
+        }
+    }
+
+    private record CachedCalendar(
+            String accessToken,
+            Calendar calendar
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package nutshell.server.service.google;
+
+import com.google.api.client.http.HttpResponseException;
+import feign.FeignException;
+
+import java.util.function.Predicate;
+
+// 만료된 토큰, 잘못된 인증 코드 같은 4xx 응답은 구글 장애가 아니므로 서킷 브레이커 실패로 집계하지 않는다 (429 제외)
+public class GoogleClientErrorPredicate implements Predicate<Throwable> {
+    @Override
+    public boolean test(Throwable throwable) {
+        int status = -1;
+        if (throwable instanceof FeignException feignException) {
+            status = feignException.status();
+        } else if (throwable instanceof HttpResponseException httpResponseException) {
+            status = httpResponseException.getStatusCode();
+        }
+        return status >= 400 && status < 500 && status != 429;
+    }
+}
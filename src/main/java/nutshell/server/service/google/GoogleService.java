@@ -1,5 +1,7 @@
 package nutshell.server.service.google;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import nutshell.server.constant.GoogleConstant;
 import nutshell.server.feign.google.*;
@@ -12,6 +14,9 @@ public class GoogleService {
     private final GoogleInfoClient googleInfoClient;
     private final GoogleUnlinkClient googleUnlinkClient;
     private final GoogleReissueClient googleReissueClient;
+
+    @Bulkhead(name = "google")
+    @CircuitBreaker(name = "googleToken")
     public GoogleTokenResponse getToken(
             final String code,
             final String clientId,
@@ -29,6 +34,8 @@ public class GoogleService {
         );
     }
 
+    @Bulkhead(name = "google")
+    @CircuitBreaker(name = "googleUserInfo")
     public GoogleUserInfoResponse getUserInfo(
             final String accessToken
     ) {
@@ -37,11 +44,15 @@ public class GoogleService {
         );
     }
 
+    @Bulkhead(name = "google")
+    @CircuitBreaker(name = "googleRevoke")
     public void unlink(final String token) {
         googleUnlinkClient.googleUnlink(token);
     }
 
-    public GoogleTokenResponse reissue(final GoogleReissueRequest request) throws Exception {
+    @Bulkhead(name = "google")
+    @CircuitBreaker(name = "googleReissue")
+    public GoogleTokenResponse reissue(final GoogleReissueRequest request) {
         return googleReissueClient.googleReissue(request);
     }
 }
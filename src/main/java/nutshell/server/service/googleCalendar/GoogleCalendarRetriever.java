@@ -14,6 +14,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GoogleCalendarRetriever {
     private final GoogleCalendarRepository googleCalendarRepository;
+    public GoogleCalendar findById(final Long id) {
+        return googleCalendarRepository.findById(id).orElseThrow(
+                () -> new NotFoundException(NotFoundErrorCode.NOT_FOUND_GOOGLE_CALENDER)
+        );
+    }
+
     public GoogleCalendar findByIdAndUser(final Long id, final User user) {
         return googleCalendarRepository.findByIdAndUser(id, user).orElseThrow(
                 () -> new NotFoundException(NotFoundErrorCode.NOT_FOUND_GOOGLE_CALENDER)
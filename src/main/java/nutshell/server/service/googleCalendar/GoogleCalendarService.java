@@ -1,19 +1,24 @@
 package nutshell.server.service.googleCalendar;
 
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpStatusCodes;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import nutshell.server.constant.GoogleConstant;
 import nutshell.server.domain.GoogleCalendar;
 import nutshell.server.domain.GoogleSchedule;
 import nutshell.server.domain.User;
 import nutshell.server.dto.googleCalender.response.*;
 import nutshell.server.exception.BusinessException;
 import nutshell.server.exception.code.BusinessErrorCode;
-import nutshell.server.feign.google.GoogleReissueRequest;
 import nutshell.server.feign.google.GoogleTokenResponse;
 import nutshell.server.feign.google.GoogleUserInfoResponse;
+import nutshell.server.service.google.GoogleCalendarClientFactory;
 import nutshell.server.service.google.GoogleService;
 import nutshell.server.service.googleCategory.GoogleCategoryRetriever;
+import nutshell.server.service.googleChannel.GoogleChannelService;
 import nutshell.server.service.googleSchedule.GoogleScheduleRetriever;
 import nutshell.server.service.googleSchedule.GoogleScheduleService;
 import nutshell.server.service.user.UserRetriever;
@@ -21,6 +26,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -31,13 +37,15 @@ import java.util.List;
 public class GoogleCalendarService {
     private final UserRetriever userRetriever;
     private final GoogleCalendarRetriever googleCalendarRetriever;
-    private final GoogleCalendarUpdater googleCalendarUpdater;
     private final GoogleCalendarRemover googleCalendarRemover;
     private final GoogleService googleService;
     private final GoogleCalendarSaver googleCalendarSaver;
     private final GoogleScheduleRetriever googleScheduleRetriever;
     private final GoogleCategoryRetriever googleCategoryRetriever;
     private final GoogleScheduleService googleScheduleService;
+    private final GoogleCalendarClientFactory googleCalendarClientFactory;
+    private final GoogleTokenManager googleTokenManager;
+    private final GoogleChannelService googleChannelService;
     @Value("${google.calender.client-id}")
     private String CLIENT_ID;
     @Value("${google.calender.client-secret}")
@@ -60,31 +68,42 @@ public class GoogleCalendarService {
         if(googleCalendarRetriever.existsByUserAndEmail(user, data.email())){
             throw new BusinessException(BusinessErrorCode.GOOGLE_SERVER_EXIST);
         }
-        return googleCalendarSaver.save(
+        GoogleCalendar googleCalendar = googleCalendarSaver.save(
                 GoogleCalendar.builder()
                         .user(user)
                         .email(data.email())
                         .serialId(data.sub())
                         .accessToken(tokens.accessToken())
                         .refreshToken(tokens.refreshToken())
+                        .expiresAt(googleTokenManager.getExpiresAt(tokens))
                         .build()
         );
+        googleChannelService.register(googleCalendar);
+        return googleCalendar;
     }
 
     @Transactional
     public void unlink(final Long userId, final Long googleCalenderId){
         User user = userRetriever.findByUserId(userId);
         GoogleCalendar googleCalendar = googleCalendarRetriever.findByIdAndUser(googleCalenderId, user);
+        GoogleCalendar refreshed = googleCalendar;
         try {
-            googleService.unlink(googleCalendar.getAccessToken());
-        } catch (Exception e) {
-            reissue(googleCalendar);
-            try {
-                googleService.unlink(googleCalendar.getAccessToken());
-            } catch (Exception ex) {
-                log.error("Google Calender Error : {}", ex.getMessage());
-            }
+            refreshed = googleTokenManager.refreshIfExpiring(googleCalendar);
+        } catch (BusinessException | CallNotPermittedException | BulkheadFullException e) {
+            // 재발급에 실패해도 채널 정리와 연동 해제는 진행한다
+            log.warn("Google Token Unavailable : {}", e.getMessage());
+        }
+        googleChannelService.stop(refreshed);
+        try {
+            revoke(refreshed);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("Google Calender Unavailable : {}", e.getMessage());
+        } catch (BusinessException e) {
+            log.warn("Google Token Unavailable : {}", e.getMessage());
+        } catch (FeignException e) {
+            log.error("Google Calender Error : {}", e.getMessage());
         }
+        googleCalendarClientFactory.evict(googleCalendar.getId());
         googleCalendarRemover.remove(googleCalendar);
     }
 
@@ -94,19 +113,40 @@ public class GoogleCalendarService {
                 .forEach(
                         googleCalendar -> {
                             try {
-                                googleScheduleService.syncCalendar(googleCalendar);
-                            } catch (Exception e) {
-                                reissue(googleCalendar);
-                                try {
-                                    googleScheduleService.syncCalendar(googleCalendar);
-                                } catch (Exception ex) {
-                                    log.error("Google Calender Error : {}", ex.getMessage());
-                                }
+                                sync(googleCalendar);
+                                googleChannelService.registerIfMissing(googleCalendar);
+                            } catch (CallNotPermittedException | BulkheadFullException e) {
+                                // 구글 장애 중에는 재시도하지 않고 Redis 에 남아있는 마지막 동기화 일정을 그대로 사용한다
+                                log.warn("Google Calender Unavailable : {}", e.getMessage());
+                            } catch (BusinessException | IOException e) {
+                                log.error("Google Calender Error : {}", e.getMessage());
                             }
                         }
                 );
     }
 
+    // 만료 시각 전에 폐기된 토큰이면 401 이 오므로 한 번만 재발급해서 다시 시도한다
+    private void sync(final GoogleCalendar googleCalendar) throws IOException {
+        GoogleCalendar refreshed = googleTokenManager.refreshIfExpiring(googleCalendar);
+        try {
+            googleScheduleService.syncCalendar(refreshed);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != HttpStatusCodes.STATUS_CODE_UNAUTHORIZED) {
+                throw e;
+            }
+            googleScheduleService.syncCalendar(googleTokenManager.refresh(refreshed));
+        }
+    }
+
+    // revoke endpoint 는 폐기된 토큰에 400(invalid_token) 을 주므로 401 과 같이 한 번만 재발급해서 다시 시도한다
+    private void revoke(final GoogleCalendar googleCalendar) {
+        try {
+            googleService.unlink(googleCalendar.getAccessToken());
+        } catch (FeignException.Unauthorized | FeignException.BadRequest e) {
+            googleService.unlink(googleTokenManager.refresh(googleCalendar).getAccessToken());
+        }
+    }
+
     @Transactional
     public List<GoogleSchedulesDto> getGoogleCalendars(
             final Long userId,
@@ -203,22 +243,4 @@ public class GoogleCalendarService {
         );
         return schedules;
     }
-
-    private void reissue(final GoogleCalendar googleCalendar) {
-        try {
-            GoogleTokenResponse tokens = googleService.reissue(
-                    GoogleReissueRequest.builder()
-                            .clientId(CLIENT_ID)
-                            .clientSecret(CLIENT_SECRET)
-                            .redirectUri(REDIRECT_URI)
-                            .refreshToken(googleCalendar.getRefreshToken())
-                            .grantType(GoogleConstant.REFRESH_TOKEN)
-                            .build()
-            );
-            assert tokens != null;
-            googleCalendarUpdater.updateTokens(googleCalendar, tokens.accessToken());
-        } catch(Exception e){
-            log.error("Google Calender Error : {}", e.getMessage());
-        }
-    }
 }
\ No newline at end of file
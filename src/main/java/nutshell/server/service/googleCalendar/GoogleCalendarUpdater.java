@@ -3,12 +3,15 @@ package nutshell.server.service.googleCalendar;
 import nutshell.server.domain.GoogleCalendar;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
 @Component
 public class GoogleCalendarUpdater {
     public void updateTokens(
             final GoogleCalendar googleCalendar,
-            final String accessToken
+            final String accessToken,
+            final LocalDateTime expiresAt
     ) {
-        googleCalendar.updateTokens(accessToken);
+        googleCalendar.updateTokens(accessToken, expiresAt);
     }
 }
@@ -0,0 +1,109 @@
+package nutshell.server.service.googleCalendar;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nutshell.server.constant.GoogleConstant;
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.exception.BusinessException;
+import nutshell.server.exception.code.BusinessErrorCode;
+import nutshell.server.feign.google.GoogleReissueRequest;
+import nutshell.server.feign.google.GoogleTokenResponse;
+import nutshell.server.service.google.GoogleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleTokenManager {
+    // 만료 1분 전부터는 호출 전에 미리 재발급한다
+    private static final long REFRESH_BEFORE_EXPIRY_SECONDS = 60;
+    // 응답에 expires_in 이 없을 때 사용하는 Google access token 기본 수명
+    private static final long DEFAULT_EXPIRES_IN_SECONDS = 3600;
+
+    private final GoogleService googleService;
+    private final GoogleCalendarUpdater googleCalendarUpdater;
+    private final GoogleCalendarSaver googleCalendarSaver;
+    // GoogleCalendar id 별로 진행 중인 재발급. 동시에 들어온 요청은 먼저 온 요청(leader)이 저장한 엔티티를 받는다.
+    private final Map<Long, CompletableFuture<GoogleCalendar>> reissues = new ConcurrentHashMap<>();
+    @Value("${google.calender.client-id}")
+    private String CLIENT_ID;
+    @Value("${google.calender.client-secret}")
+    private String CLIENT_SECRET;
+    @Value("${google.calender.redirect-uri}")
+    private String REDIRECT_URI;
+
+    public LocalDateTime getExpiresAt(final GoogleTokenResponse tokens) {
+        long expiresIn = tokens.expiresIn() == null ? DEFAULT_EXPIRES_IN_SECONDS : tokens.expiresIn();
+        return LocalDateTime.now().plusSeconds(expiresIn);
+    }
+
+    // 만료가 임박했으면 재발급한 엔티티를, 아니면 받은 엔티티를 그대로 돌려준다. 이후 호출에는 반환값을 사용한다.
+    public GoogleCalendar refreshIfExpiring(final GoogleCalendar googleCalendar) {
+        LocalDateTime expiresAt = googleCalendar.getExpiresAt();
+        if (expiresAt == null || expiresAt.minusSeconds(REFRESH_BEFORE_EXPIRY_SECONDS).isBefore(LocalDateTime.now())) {
+            return refresh(googleCalendar);
+        }
+        return googleCalendar;
+    }
+
+    // 재발급 실패는 BusinessException(GOOGLE_TOKEN_REISSUE_FAILED), 서킷 open / bulkhead 포화는 그대로 던진다
+    public GoogleCalendar refresh(final GoogleCalendar googleCalendar) {
+        CompletableFuture<GoogleCalendar> created = new CompletableFuture<>();
+        CompletableFuture<GoogleCalendar> inFlight = reissues.putIfAbsent(googleCalendar.getId(), created);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            GoogleTokenResponse tokens = reissue(googleCalendar);
+            if (tokens == null || tokens.accessToken() == null) {
+                throw new BusinessException(BusinessErrorCode.GOOGLE_TOKEN_REISSUE_FAILED);
+            }
+            googleCalendarUpdater.updateTokens(googleCalendar, tokens.accessToken(), getExpiresAt(tokens));
+            GoogleCalendar saved = googleCalendarSaver.save(googleCalendar);
+            created.complete(saved);
+            return saved;
+        } catch (RuntimeException e) {
+            RuntimeException failure = e;
+            if (!(e instanceof CallNotPermittedException || e instanceof BulkheadFullException || e instanceof BusinessException)) {
+                log.error("Google Token Reissue Error : {}", e.getMessage());
+                failure = new BusinessException(BusinessErrorCode.GOOGLE_TOKEN_REISSUE_FAILED);
+            }
+            created.completeExceptionally(failure);
+            throw failure;
+        } finally {
+            reissues.remove(googleCalendar.getId(), created);
+        }
+    }
+
+    private GoogleCalendar await(final CompletableFuture<GoogleCalendar> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private GoogleTokenResponse reissue(final GoogleCalendar googleCalendar) {
+        return googleService.reissue(
+                GoogleReissueRequest.builder()
+                        .clientId(CLIENT_ID)
+                        .clientSecret(CLIENT_SECRET)
+                        .redirectUri(REDIRECT_URI)
+                        .refreshToken(googleCalendar.getRefreshToken())
+                        .grantType(GoogleConstant.REFRESH_TOKEN)
+                        .build()
+        );
+    }
+}
@@ -12,6 +12,11 @@ import java.util.List;
 public class GoogleCategoryRetriever {
     private final GoogleCategoryRepository googleCategoryRepository;
 
+    public GoogleCategory findById(final Long googleCalendarId, final String categoryId) {
+        String id = googleCalendarId + ":" + categoryId;
+        return googleCategoryRepository.findById(id).orElse(null);
+    }
+
     public List<GoogleCategory> findAllByGoogleCalendarId(final Long googleCalendarId) {
         return googleCategoryRepository.findAllByGoogleCalendarId(googleCalendarId);
     }
@@ -0,0 +1,29 @@
+package nutshell.server.service.googleChannel;
+
+import lombok.RequiredArgsConstructor;
+import nutshell.server.domain.GoogleChannel;
+import nutshell.server.repository.GoogleChannelRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class GoogleChannelRemover {
+    private final GoogleChannelRepository googleChannelRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void remove(final GoogleChannel googleChannel) {
+        googleChannelRepository.delete(googleChannel);
+        stringRedisTemplate.opsForZSet().remove(GoogleChannelRetriever.EXPIRATION_KEY, googleChannel.getId());
+    }
+
+    // TTL 로 hash 가 먼저 사라진 채널의 만료 시각 항목만 지운다
+    public void removeExpirations(final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().remove(GoogleChannelRetriever.EXPIRATION_KEY, ids.toArray());
+    }
+}
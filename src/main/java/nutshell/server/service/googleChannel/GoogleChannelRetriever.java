@@ -0,0 +1,40 @@
+package nutshell.server.service.googleChannel;
+
+import lombok.RequiredArgsConstructor;
+import nutshell.server.domain.GoogleChannel;
+import nutshell.server.repository.GoogleChannelRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class GoogleChannelRetriever {
+    // 채널 id 를 member, 만료 시각(epoch millis) 을 score 로 둔 sorted set
+    static final String EXPIRATION_KEY = "google_channel:expiration";
+
+    private final GoogleChannelRepository googleChannelRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public GoogleChannel findById(final String id) {
+        return googleChannelRepository.findById(id).orElse(null);
+    }
+
+    public List<GoogleChannel> findAllByGoogleCalendarId(final Long googleCalendarId) {
+        return googleChannelRepository.findAllByGoogleCalendarId(googleCalendarId);
+    }
+
+    public Set<String> findIdsExpiringBefore(final long expiration) {
+        Set<String> ids = stringRedisTemplate.opsForZSet().rangeByScore(EXPIRATION_KEY, 0, expiration);
+        return ids == null ? Set.of() : ids;
+    }
+
+    public List<GoogleChannel> findAllById(final Set<String> ids) {
+        List<GoogleChannel> googleChannels = new ArrayList<>();
+        googleChannelRepository.findAllById(ids).forEach(googleChannels::add);
+        return googleChannels;
+    }
+}
@@ -0,0 +1,24 @@
+package nutshell.server.service.googleChannel;
+
+import lombok.RequiredArgsConstructor;
+import nutshell.server.domain.GoogleChannel;
+import nutshell.server.repository.GoogleChannelRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class GoogleChannelSaver {
+    private final GoogleChannelRepository googleChannelRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 갱신 대상 조회용으로 만료 시각을 score 로 하는 sorted set 에도 넣는다
+    public void save(final GoogleChannel googleChannel) {
+        googleChannelRepository.save(googleChannel);
+        stringRedisTemplate.opsForZSet().add(
+                GoogleChannelRetriever.EXPIRATION_KEY,
+                googleChannel.getId(),
+                googleChannel.getExpiration()
+        );
+    }
+}
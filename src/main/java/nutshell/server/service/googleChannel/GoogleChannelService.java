@@ -0,0 +1,193 @@
+package nutshell.server.service.googleChannel;
+
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.CalendarListEntry;
+import com.google.api.services.calendar.model.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.GoogleChannel;
+import nutshell.server.service.google.GoogleCalendarClientFactory;
+import nutshell.server.service.googleCalendar.GoogleCalendarRetriever;
+import nutshell.server.service.googleCalendar.GoogleTokenManager;
+import nutshell.server.service.googleSchedule.GoogleScheduleService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GoogleChannelService {
+    private static final String CHANNEL_TYPE = "web_hook";
+    private static final long CHANNEL_TTL_SECONDS = 7 * 24 * 60 * 60L;
+    // 만료 하루 전인 채널은 새 채널로 교체한다
+    private static final long RENEW_BEFORE_MILLIS = 24 * 60 * 60 * 1000L;
+    private static final String SYNC_STATE = "sync";
+    // 채널 갱신은 한 시간에 한 인스턴스만 실행한다. 락은 풀지 않고 TTL 로 만료시켜 다른 인스턴스가 같은 주기에 다시 돌지 않게 한다.
+    private static final String RENEW_LOCK_KEY = "lock:google-channel-renew";
+    private static final Duration RENEW_LOCK_TTL = Duration.ofMinutes(50);
+
+    private final GoogleChannelRetriever googleChannelRetriever;
+    private final GoogleChannelSaver googleChannelSaver;
+    private final GoogleChannelRemover googleChannelRemover;
+    private final GoogleCalendarRetriever googleCalendarRetriever;
+    private final GoogleCalendarClientFactory googleCalendarClientFactory;
+    private final GoogleTokenManager googleTokenManager;
+    private final GoogleScheduleService googleScheduleService;
+    private final GoogleSyncDebouncer googleSyncDebouncer;
+    private final StringRedisTemplate stringRedisTemplate;
+    // 갱신 락을 잡은 인스턴스 표시용
+    private final String nodeId = UUID.randomUUID().toString();
+    // push 알림을 받을 외부 HTTPS 주소. 비어 있으면 채널을 등록하지 않는다.
+    @Value("${google.calendar.webhook-address:}")
+    private String WEBHOOK_ADDRESS;
+
+    public void register(final GoogleCalendar googleCalendar) {
+        if (isDisabled()) {
+            return;
+        }
+        try {
+            GoogleCalendar refreshed = googleTokenManager.refreshIfExpiring(googleCalendar);
+            Calendar calendar = googleCalendarClientFactory.getCalendar(refreshed);
+            List<CalendarListEntry> items = calendar.calendarList().list().execute().getItems();
+            for (CalendarListEntry calendarListEntry : items) {
+                watch(refreshed, calendarListEntry.getId());
+            }
+        } catch (Exception e) {
+            log.error("Google Calender Channel Error : {}", e.getMessage());
+        }
+    }
+
+    public void stop(final GoogleCalendar googleCalendar) {
+        googleChannelRetriever.findAllByGoogleCalendarId(googleCalendar.getId())
+                .forEach(googleChannel -> stop(googleCalendar, googleChannel));
+    }
+
+    public void receive(
+            final String channelId,
+            final String token,
+            final String resourceState
+    ) {
+        GoogleChannel googleChannel = googleChannelRetriever.findById(channelId);
+        if (googleChannel == null || !googleChannel.getToken().equals(token)) {
+            log.warn("Unknown Google Calender Channel : {}", channelId);
+            return;
+        }
+        if (SYNC_STATE.equals(resourceState)) {
+            return;
+        }
+        googleSyncDebouncer.debounce(
+                googleChannel.getGoogleCalendarId() + ":" + googleChannel.getCalendarId(),
+                () -> syncEvents(googleChannel.getGoogleCalendarId(), googleChannel.getCalendarId())
+        );
+    }
+
+    @Scheduled(fixedDelay = 60 * 60 * 1000L)
+    public void renew() {
+        if (isDisabled()) {
+            return;
+        }
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(RENEW_LOCK_KEY, nodeId, RENEW_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        long renewBefore = System.currentTimeMillis() + RENEW_BEFORE_MILLIS;
+        Set<String> ids = googleChannelRetriever.findIdsExpiringBefore(renewBefore);
+        List<GoogleChannel> googleChannels = googleChannelRetriever.findAllById(ids);
+        // 갱신하기 전에 TTL 로 사라진 채널. 계정의 채널이 모두 사라졌으면 다음 전체 동기화 때 다시 등록된다.
+        Set<String> expired = new HashSet<>(ids);
+        googleChannels.forEach(googleChannel -> expired.remove(googleChannel.getId()));
+        googleChannelRemover.removeExpirations(expired);
+        googleChannels.stream()
+                .collect(Collectors.groupingBy(GoogleChannel::getGoogleCalendarId))
+                .forEach((googleCalendarId, expiring) -> {
+                    try {
+                        GoogleCalendar refreshed = googleTokenManager.refreshIfExpiring(
+                                googleCalendarRetriever.findById(googleCalendarId)
+                        );
+                        expiring.forEach(googleChannel -> renew(refreshed, googleChannel));
+                    } catch (Exception e) {
+                        log.error("Google Calender Channel Error : {}", e.getMessage());
+                    }
+                });
+    }
+
+    // 채널 등록에 실패했거나 갱신 전에 모두 만료된 계정은 전체 동기화 때 다시 등록한다
+    public void registerIfMissing(final GoogleCalendar googleCalendar) {
+        if (isDisabled() || !googleChannelRetriever.findAllByGoogleCalendarId(googleCalendar.getId()).isEmpty()) {
+            return;
+        }
+        register(googleCalendar);
+    }
+
+    private void renew(final GoogleCalendar googleCalendar, final GoogleChannel googleChannel) {
+        try {
+            watch(googleCalendar, googleChannel.getCalendarId());
+            stop(googleCalendar, googleChannel);
+        } catch (Exception e) {
+            log.error("Google Calender Channel Error : {}", e.getMessage());
+        }
+    }
+
+    private void watch(final GoogleCalendar googleCalendar, final String calendarId) throws IOException {
+        Channel channel = new Channel()
+                .setId(UUID.randomUUID().toString())
+                .setType(CHANNEL_TYPE)
+                .setAddress(WEBHOOK_ADDRESS)
+                .setToken(UUID.randomUUID().toString())
+                .setParams(Map.of("ttl", String.valueOf(CHANNEL_TTL_SECONDS)));
+        Channel watched = googleCalendarClientFactory.getCalendar(googleCalendar)
+                .events().watch(calendarId, channel).execute();
+        googleChannelSaver.save(
+                GoogleChannel.builder()
+                        .id(channel.getId())
+                        .googleCalendarId(googleCalendar.getId())
+                        .calendarId(calendarId)
+                        .resourceId(watched.getResourceId())
+                        .token(channel.getToken())
+                        .expiration(
+                                watched.getExpiration() != null
+                                        ? watched.getExpiration()
+                                        : System.currentTimeMillis() + CHANNEL_TTL_SECONDS * 1000
+                        )
+                        .build()
+        );
+    }
+
+    private void stop(final GoogleCalendar googleCalendar, final GoogleChannel googleChannel) {
+        try {
+            googleCalendarClientFactory.getCalendar(googleCalendar).channels().stop(
+                    new Channel()
+                            .setId(googleChannel.getId())
+                            .setResourceId(googleChannel.getResourceId())
+            ).execute();
+        } catch (Exception e) {
+            log.error("Google Calender Channel Error : {}", e.getMessage());
+        }
+        googleChannelRemover.remove(googleChannel);
+    }
+
+    private void syncEvents(final Long googleCalendarId, final String calendarId) {
+        try {
+            GoogleCalendar googleCalendar = googleCalendarRetriever.findById(googleCalendarId);
+            googleScheduleService.syncEvents(googleTokenManager.refreshIfExpiring(googleCalendar), calendarId);
+        } catch (Exception e) {
+            log.error("Google Calender Error : {}", e.getMessage());
+        }
+    }
+
+    private boolean isDisabled() {
+        return WEBHOOK_ADDRESS == null || WEBHOOK_ADDRESS.isBlank();
+    }
+}
@@ -0,0 +1,56 @@
+package nutshell.server.service.googleChannel;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 짧은 시간에 몰려오는 push 알림을 하나로 합쳐서 마지막 알림 이후 한 번만 동기화한다.
+// 동기화는 Google 호출이라 오래 걸릴 수 있으므로 @Scheduled 작업들이 쓰는 공용 scheduler 와 분리된 전용 scheduler 에서 실행한다.
+@Component
+public class GoogleSyncDebouncer {
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    private final Map<String, ScheduledFuture<?>> pendings = new ConcurrentHashMap<>();
+    @Value("${google.calendar.sync.pool-size}")
+    private int POOL_SIZE;
+    @Value("${google.calendar.sync.debounce-delay}")
+    private Duration DEBOUNCE_DELAY;
+
+    @PostConstruct
+    public void start() {
+        taskScheduler.setPoolSize(POOL_SIZE);
+        taskScheduler.setThreadNamePrefix("google-sync-");
+        taskScheduler.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        taskScheduler.shutdown();
+    }
+
+    public void debounce(final String key, final Runnable task) {
+        AtomicReference<ScheduledFuture<?>> scheduled = new AtomicReference<>();
+        pendings.compute(key, (k, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            scheduled.set(taskScheduler.schedule(
+                    () -> {
+                        // 실행 직전에 새 알림이 다시 예약한 작업은 지우지 않는다
+                        pendings.remove(k, scheduled.get());
+                        task.run();
+                    },
+                    Instant.now().plus(DEBOUNCE_DELAY)
+            ));
+            return scheduled.get();
+        });
+    }
+}
@@ -1,19 +1,21 @@
 package nutshell.server.service.googleSchedule;
 
-import com.google.api.client.auth.oauth2.BearerToken;
-import com.google.api.client.auth.oauth2.Credential;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpHeaders;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.*;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
-import nutshell.server.constant.GoogleConstant;
+import lombok.extern.slf4j.Slf4j;
 import nutshell.server.domain.GoogleCalendar;
 import nutshell.server.domain.GoogleCategory;
 import nutshell.server.domain.GoogleSchedule;
 import nutshell.server.dto.googleCalender.response.GoogleSchedulesDto;
+import nutshell.server.service.google.GoogleCalendarClientFactory;
 import nutshell.server.service.googleCategory.GoogleCategoryRemover;
 import nutshell.server.service.googleCategory.GoogleCategoryRetriever;
 import nutshell.server.service.googleCategory.GoogleCategorySaver;
@@ -21,64 +23,69 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.security.GeneralSecurityException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class GoogleScheduleService {
+    // Google batch endpoint 는 한 요청에 최대 50개까지 묶을 수 있다
+    private static final int MAX_BATCH_SIZE = 50;
+    // 증분 조회에서 삭제된 이벤트의 status
+    private static final String CANCELLED = "cancelled";
+    // syncToken 이 만료되면 Google 은 410 Gone 으로 응답한다
+    private static final int SYNC_TOKEN_EXPIRED = 410;
+
     private final GoogleCategoryRemover googleCategoryRemover;
     private final GoogleCategorySaver googleCategorySaver;
     private final GoogleCategoryRetriever googleCategoryRetriever;
     private final GoogleScheduleRemover googleScheduleRemover;
     private final GoogleScheduleSaver googleScheduleSaver;
     private final GoogleScheduleRetriever googleScheduleRetriever;
+    private final GoogleCalendarClientFactory googleCalendarClientFactory;
 
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
-    private static final NetHttpTransport HTTP_TRANSPORT;
-    static {
-        try {
-            HTTP_TRANSPORT = GoogleNetHttpTransport.newTrustedTransport();
-        } catch (GeneralSecurityException | IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
     @Transactional
+    @Bulkhead(name = "google")
+    @CircuitBreaker(name = "googleCalendar")
     public void syncCalendar(final GoogleCalendar googleCalendar) throws IOException {
-        googleScheduleRemover.removeAll(googleScheduleRetriever.findAllByGoogleCalendarId(googleCalendar.getId()));
-        googleCategoryRemover.removeAll(googleCategoryRetriever.findAllByGoogleCalendarId(googleCalendar.getId()));
-        Calendar calender = getCalendar(googleCalendar);
+        Calendar calender = googleCalendarClientFactory.getCalendar(googleCalendar);
         CalendarList calendarList = calender.calendarList().list().execute();
         List<CalendarListEntry> items = calendarList.getItems();
+        Map<String, Events> eventsByCalendarId = new HashMap<>();
+        Set<String> failedCalendarIds = new HashSet<>();
+        listEvents(calender, items, eventsByCalendarId, failedCalendarIds);
+        if (!items.isEmpty() && failedCalendarIds.size() == items.size()) {
+            throw new IOException("Google Calendar events batch failed for all calendars");
+        }
+
+        // 조회에 실패한 캘린더의 기존 일정은 남겨두고 나머지만 교체한다
+        googleScheduleRemover.removeAll(
+                googleScheduleRetriever.findAllByGoogleCalendarId(googleCalendar.getId()).stream()
+                        .filter(googleSchedule -> !failedCalendarIds.contains(googleSchedule.getGoogleCategoryId()))
+                        .toList()
+        );
+        googleCategoryRemover.removeAll(googleCategoryRetriever.findAllByGoogleCalendarId(googleCalendar.getId()));
         for (CalendarListEntry calendarListEntry : items) {
             String calendarId = calendarListEntry.getId();
             String calendars = calendarListEntry.getSummary();
             String color = calendarListEntry.getBackgroundColor();
+            Events events = eventsByCalendarId.get(calendarId);
             googleCategorySaver.save(
                     GoogleCategory.builder()
                             .id(googleCalendar.getId() + ":" + calendarId)
                             .name(calendars)
                             .color(color)
                             .googleCalendarId(googleCalendar.getId())
+                            .syncToken(events == null ? null : events.getNextSyncToken())
                             .build()
             );
-            Events events = calender.events().list(calendarId).execute();
-            List<GoogleSchedulesDto.GoogleScheduleDto> googleScheduleDtoList = new ArrayList<>();
-            for (Event event : events.getItems()) {
-                LocalDateTime start = getLocalDateTime(event.getStart());
-                LocalDateTime end = getLocalDateTime(event.getEnd());
-                GoogleSchedulesDto.GoogleScheduleDto googleScheduleDto = GoogleSchedulesDto.GoogleScheduleDto.builder()
-                        .name(event.getSummary())
-                        .startTime(start)
-                        .endTime(end)
-                        .allDay(!start.toLocalDate().equals(end.toLocalDate()))
-                        .build();
-                googleScheduleDtoList.add(googleScheduleDto);
+            if (events == null) {
+                continue;
             }
+            List<GoogleSchedulesDto.GoogleScheduleDto> googleScheduleDtoList = getScheduleDtos(events);
             if (googleScheduleDtoList.isEmpty()) {
                 continue;
             }
@@ -94,16 +101,114 @@ public class GoogleScheduleService {
             );
         }
     }
-    private Calendar getCalendar(
-            final GoogleCalendar googleCalendar
-    ) {
-        Credential credential = new Credential.Builder(BearerToken.authorizationHeaderAccessMethod())
-                .setJsonFactory(JSON_FACTORY)
-                .setTransport(HTTP_TRANSPORT)
-                .build()
-                .setAccessToken(googleCalendar.getAccessToken());
-        return new Calendar.Builder(HTTP_TRANSPORT, JSON_FACTORY, credential)
-                .setApplicationName(GoogleConstant.APPLICATION_NAME)
+
+    // push 알림이 온 캘린더 하나의 일정만 증분 동기화한다. 저장된 syncToken 이후에 바뀐 이벤트만 받아서 반영하고,
+    // 토큰이 없거나 만료(410 Gone)됐으면 전체 동기화로 새 토큰을 받는다.
+    @Transactional
+    @Bulkhead(name = "google")
+    @CircuitBreaker(name = "googleCalendar")
+    public void syncEvents(final GoogleCalendar googleCalendar, final String calendarId) throws IOException {
+        GoogleCategory googleCategory = googleCategoryRetriever.findById(googleCalendar.getId(), calendarId);
+        if (googleCategory == null || googleCategory.getSyncToken() == null) {
+            syncCalendar(googleCalendar);
+            return;
+        }
+        GoogleSchedule googleSchedule = googleScheduleRetriever.findById(googleCalendar.getId(), calendarId);
+        Map<String, GoogleSchedulesDto.GoogleScheduleDto> schedulesByEventId = new LinkedHashMap<>();
+        if (googleSchedule != null) {
+            googleSchedule.getSchedules().forEach(schedule -> schedulesByEventId.put(schedule.eventId(), schedule));
+        }
+        Calendar calender = googleCalendarClientFactory.getCalendar(googleCalendar);
+        String pageToken = null;
+        Events events;
+        try {
+            do {
+                events = calender.events().list(calendarId)
+                        .setSyncToken(googleCategory.getSyncToken())
+                        .setPageToken(pageToken)
+                        .execute();
+                for (Event event : events.getItems()) {
+                    if (CANCELLED.equals(event.getStatus())) {
+                        schedulesByEventId.remove(event.getId());
+                    } else {
+                        schedulesByEventId.put(event.getId(), getScheduleDto(event));
+                    }
+                }
+                pageToken = events.getNextPageToken();
+            } while (pageToken != null);
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() != SYNC_TOKEN_EXPIRED) {
+                throw e;
+            }
+            syncCalendar(googleCalendar);
+            return;
+        }
+
+        googleCategory.updateSyncToken(events.getNextSyncToken());
+        googleCategorySaver.save(googleCategory);
+        if (googleSchedule != null) {
+            googleScheduleRemover.removeAll(List.of(googleSchedule));
+        }
+        if (schedulesByEventId.isEmpty()) {
+            return;
+        }
+        googleScheduleSaver.save(
+                GoogleSchedule.builder()
+                        .id(googleCalendar.getId() + ":" + calendarId)
+                        .name(googleCategory.getName())
+                        .color(googleCategory.getColor())
+                        .googleCalendarId(googleCalendar.getId())
+                        .googleCategoryId(calendarId)
+                        .schedules(new ArrayList<>(schedulesByEventId.values()))
+                        .build()
+        );
+    }
+
+    // 캘린더별 events.list 요청을 batch endpoint 로 묶어서 한 번의 multipart 요청으로 보낸다
+    private void listEvents(
+            final Calendar calender,
+            final List<CalendarListEntry> items,
+            final Map<String, Events> eventsByCalendarId,
+            final Set<String> failedCalendarIds
+    ) throws IOException {
+        for (int from = 0; from < items.size(); from += MAX_BATCH_SIZE) {
+            BatchRequest batch = calender.batch();
+            for (CalendarListEntry calendarListEntry : items.subList(from, Math.min(from + MAX_BATCH_SIZE, items.size()))) {
+                String calendarId = calendarListEntry.getId();
+                calender.events().list(calendarId).queue(batch, new JsonBatchCallback<Events>() {
+                    @Override
+                    public void onSuccess(Events events, HttpHeaders responseHeaders) {
+                        eventsByCalendarId.put(calendarId, events);
+                    }
+
+                    @Override
+                    public void onFailure(GoogleJsonError e, HttpHeaders responseHeaders) {
+                        failedCalendarIds.add(calendarId);
+                        log.error("Google Calender Error : {} {}", calendarId, e.getMessage());
+                    }
+                });
+            }
+            batch.execute();
+        }
+    }
+
+    private List<GoogleSchedulesDto.GoogleScheduleDto> getScheduleDtos(final Events events) {
+        List<GoogleSchedulesDto.GoogleScheduleDto> googleScheduleDtoList = new ArrayList<>();
+        for (Event event : events.getItems()) {
+            googleScheduleDtoList.add(getScheduleDto(event));
+        }
+        return googleScheduleDtoList;
+    }
+
+    private GoogleSchedulesDto.GoogleScheduleDto getScheduleDto(final Event event) {
+        LocalDateTime start = getLocalDateTime(event.getStart());
+        LocalDateTime end = getLocalDateTime(event.getEnd());
+        return GoogleSchedulesDto.GoogleScheduleDto.builder()
+                .name(event.getSummary())
+                .startTime(start)
+                .endTime(end)
+                .allDay(!start.toLocalDate().equals(end.toLocalDate()))
+                .eventId(event.getId())
                 .build();
     }
 
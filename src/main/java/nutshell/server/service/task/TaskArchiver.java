@@ -0,0 +1,62 @@
+package nutshell.server.service.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nutshell.server.cache.SecondLevelCacheInvalidator;
+import nutshell.server.domain.Task;
+import nutshell.server.repository.TaskArchiveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 완료된 지 오래된 task 와 time_block 을 보관 테이블로 옮겨 task 테이블과 인덱스를 작게 유지한다.
+// 배치마다 트랜잭션을 나눠 잠금과 WAL 을 짧게 가져가고, 옮긴 task 는 히스토리 조회(/api/tasks/history)로만 보인다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskArchiver {
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+    @Value("${task.archive.after-days}")
+    private int AFTER_DAYS;
+    @Value("${task.archive.batch-size}")
+    private int BATCH_SIZE;
+
+    @Scheduled(cron = "${task.archive.cron}")
+    public void archive() {
+        LocalDate cutoff = LocalDate.now().minusDays(AFTER_DAYS);
+        int total = 0;
+        try {
+            int archived;
+            do {
+                archived = archiveBatch(cutoff);
+                total += archived;
+            } while (archived == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("Task archive Error : {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Task archived: {} tasks done before {}", total, cutoff);
+        }
+    }
+
+    private int archiveBatch(final LocalDate cutoff) {
+        Integer archived = transactionTemplate.execute(status -> {
+            List<Long> taskIds = taskArchiveRepository.lockIdsDoneBefore(cutoff, BATCH_SIZE);
+            if (taskIds.isEmpty()) {
+                return 0;
+            }
+            taskArchiveRepository.moveToArchive(taskIds, LocalDateTime.now());
+            // JDBC 로 지웠으므로 2차 캐시는 직접 지운다
+            secondLevelCacheInvalidator.evictAfterCommit(Task.class, taskIds, true);
+            return taskIds.size();
+        });
+        return archived == null ? 0 : archived;
+    }
+}
@@ -1,18 +1,23 @@
 package nutshell.server.service.task;
 
 import lombok.RequiredArgsConstructor;
+import nutshell.server.cache.SecondLevelCacheInvalidator;
 import nutshell.server.domain.Task;
 import nutshell.server.repository.TaskRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class TaskRemover {
 
     public final TaskRepository taskRepository;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
 
     public void deleteTask(final Task task){
-        taskRepository.delete(task);
+        taskRepository.deleteByIdInBulk(task.getId());
+        secondLevelCacheInvalidator.evictAfterCommit(Task.class, List.of(task.getId()), true);
     }
 
 }
@@ -5,23 +5,38 @@ import nutshell.server.domain.Task;
 import nutshell.server.domain.User;
 import nutshell.server.exception.NotFoundException;
 import nutshell.server.exception.code.NotFoundErrorCode;
+import nutshell.server.repository.TaskArchiveRepository;
+import nutshell.server.repository.TaskQueryRepository;
 import nutshell.server.repository.TaskRepository;
+import nutshell.server.repository.projection.ArchivedTask;
+import nutshell.server.repository.projection.ArchivedTimeBlock;
+import nutshell.server.repository.projection.TaskSummary;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class TaskRetriever {
     private final TaskRepository taskRepository;
+    private final TaskQueryRepository taskQueryRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
 
     public Task findByUserAndId(final User user, final Long taskId) {
         return taskRepository.findByUserAndId(user, taskId)
                 .orElseThrow(() -> new NotFoundException(NotFoundErrorCode.NOT_FOUND_TASK));
     }
 
+    // 모두 사용자의 task 가 아니면 NOT_FOUND_TASK
+    public void checkAllByUserAndIds(final User user, final Collection<Long> taskIds) {
+        if (taskRepository.findIdsByUserAndIdIn(user, taskIds).size() != taskIds.size()) {
+            throw new NotFoundException(NotFoundErrorCode.NOT_FOUND_TASK);
+        }
+    }
+
     public Task findById(final Long id){
         return taskRepository.findById(id).orElseThrow(
                 () -> new NotFoundException(NotFoundErrorCode.NOT_FOUND_TASK)
@@ -30,42 +45,48 @@ public class TaskRetriever {
     public List<Task> findAllByUserAndTimeBlocks(User user, LocalDateTime startTime, LocalDateTime endTime) {
         return taskRepository.findAllByUserAndTimeBlocks(user, startTime, endTime);
     }
-    public List<Task> findAllByUserAndAssignedDateOrderByCreatedAtDesc(final User user, final LocalDate assignedDate){
-        return taskRepository.findAllByUserAndAssignedDateOrderByCreatedAtDesc(user.getId(), assignedDate);
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByCreatedAtDesc(final User user, final LocalDate assignedDate){
+        return taskQueryRepository.findAllByUserAndAssignedDateOrderByCreatedAtDesc(user.getId(), assignedDate);
+    }
+
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByCreatedAtAsc(final User user, final LocalDate assignedDate){
+        return taskQueryRepository.findAllByUserAndAssignedDateOrderByCreatedAtAsc(user.getId(), assignedDate);
+    }
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByTimeDiffAsc(final User user, final LocalDate assignedDate){
+        return taskQueryRepository.findAllByUserAndAssignedDateOrderByTimeDiffAsc(user.getId(), assignedDate);
     }
 
-    public List<Task> findAllByUserAndAssignedDateOrderByCreatedAtAsc(final User user, final LocalDate assignedDate){
-        return taskRepository.findAllByUserAndAssignedDateOrderByCreatedAtAsc(user.getId(), assignedDate);
+    public List<TaskSummary> findAllByUserAndAssignedDateOrderByTimeDiffDesc(final User user, final LocalDate assignedDate){
+        return taskQueryRepository.findAllByUserAndAssignedDateOrderByTimeDiffDesc(user.getId(), assignedDate);
     }
-    public List<Task> findAllByUserAndAssignedDateOrderByTimeDiffAsc(final User user, final LocalDate assignedDate){
-        return taskRepository.findAllByUserAndAssignedDateOrderByTimeDiffAsc(user.getId(), assignedDate);
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByCreatedAtDesc(final User user){
+        return taskQueryRepository.findAllByUserAndAssignedDateIsNullOrderByCreatedAtDesc(user.getId());
     }
 
-    public List<Task> findAllByUserAndAssignedDateOrderByTimeDiffDesc(final User user, final LocalDate assignedDate){
-        return taskRepository.findAllByUserAndAssignedDateOrderByTimeDiffDesc(user.getId(), assignedDate);
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByCreatedAtAsc(final User user){
+        return taskQueryRepository.findAllByUserAndAssignedDateIsNullOrderByCreatedAtAsc(user.getId());
     }
-    public List<Task> findAllByUserAndAssignedDateIsNullOrderByCreatedAtDesc(final User user){
-        return taskRepository.findAllByUserAndAssignedDateIsNullOrderByCreatedAtDesc(user);
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByTimeDiffAsc(final User user){
+        return taskQueryRepository.findAllByUserAndAssignedDateIsNullOrderByTimeDiffAsc(user.getId());
     }
 
-    public List<Task> findAllByUserAndAssignedDateIsNullOrderByCreatedAtAsc(final User user){
-        return taskRepository.findAllByUserAndAssignedDateIsNullOrderByCreatedAtAsc(user);
+    public List<TaskSummary> findAllByUserAndAssignedDateIsNullOrderByTimeDiffDesc(final User user){
+        return taskQueryRepository.findAllByUserAndAssignedDateIsNullOrderByTimeDiffDesc(user.getId());
     }
-    public List<Task> findAllByUserAndAssignedDateIsNullOrderByTimeDiffAsc(final User user){
-        return taskRepository.findAllByUserAndAssignedDateIsNullOrderByTimeDiffAsc(user.getId());
+
+    public List<TaskSummary> findAllByCustomOrderAndAssignedDateIsNotNull(final Long userId, final LocalDate targetDate, final List<Long> taskList){
+        return taskQueryRepository.findAllByCustomOrderAndAssignedDateIsNotNull(userId, targetDate, taskList);
     }
 
-    public List<Task> findAllByUserAndAssignedDateIsNullOrderByTimeDiffDesc(final User user){
-        return taskRepository.findAllByUserAndAssignedDateIsNullOrderByTimeDiffDesc(user.getId());
+    public List<TaskSummary> findAllByCustomOrderAndAssignedDateIsNull(final Long userId, final List<Long> taskList){
+        return taskQueryRepository.findAllByCustomOrderAndAssignedDateIsNull(userId, taskList);
     }
 
-    public List<Task> findAllByCustomOrderAndAssignedDateIsNotNull(final Long userId, final LocalDate targetDate, final List<Long> taskList){
-        Long[] taskListArray = taskList.toArray(new Long[0]);
-        return taskRepository.findAllByCustomOrderAndAssignedDateIsNotNull(userId, targetDate, taskListArray);
+    public List<ArchivedTask> findArchivedByUser(final User user, final LocalDate cursorEndDate, final Long cursorId, final int limit){
+        return taskArchiveRepository.findAllByUserOrderByEndDateDesc(user.getId(), cursorEndDate, cursorId, limit);
     }
 
-    public List<Task> findAllByCustomOrderAndAssignedDateIsNull(final Long userId, final List<Long> taskList){
-        Long[] taskListArray = taskList.toArray(new Long[0]);
-        return taskRepository.findAllByCustomOrderAndAssignedDateIsNull(userId, taskListArray);
+    public List<ArchivedTimeBlock> findArchivedTimeBlocks(final Collection<Long> taskIds){
+        return taskArchiveRepository.findTimeBlocksByTaskIds(taskIds);
     }
 }
@@ -5,6 +5,8 @@ import nutshell.server.domain.Task;
 import nutshell.server.repository.TaskRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class TaskSaver {
@@ -13,4 +15,8 @@ public class TaskSaver {
     public Task save(final Task task) {
         return taskRepository.save(task);
     }
+
+    public List<Task> saveAll(final List<Task> tasks) {
+        return taskRepository.saveAll(tasks);
+    }
 }
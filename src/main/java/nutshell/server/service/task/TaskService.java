@@ -1,5 +1,7 @@
 package nutshell.server.service.task;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nutshell.server.domain.Task;
@@ -7,13 +9,19 @@ import nutshell.server.domain.TaskOrder;
 import nutshell.server.domain.TimeBlock;
 import nutshell.server.domain.User;
 import nutshell.server.dto.task.request.*;
+import nutshell.server.dto.task.response.TaskBatchCreateResultDto;
 import nutshell.server.dto.task.response.TaskDetailDto;
+import nutshell.server.dto.task.response.TaskHistoryDto;
 import nutshell.server.dto.task.response.TasksDto;
 import nutshell.server.dto.type.Status;
 import nutshell.server.exception.IllegalArgumentException;
 import nutshell.server.exception.code.IllegalArgumentErrorCode;
+import nutshell.server.repository.projection.ArchivedTask;
+import nutshell.server.repository.projection.ArchivedTimeBlock;
+import nutshell.server.repository.projection.TaskSummary;
 import nutshell.server.service.taskOrder.TaskOrderRetriever;
 import nutshell.server.service.taskOrder.TaskOrderSaver;
+import nutshell.server.service.taskOrder.TaskOrderUpdater;
 import nutshell.server.service.timeBlock.TimeBlockRetriever;
 import nutshell.server.service.user.UserRetriever;
 import org.springframework.stereotype.Service;
@@ -21,12 +29,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TaskService {
+    private static final int MAX_HISTORY_SIZE = 100;
+
     private final TaskUpdater taskUpdater;
     private final TaskRetriever taskRetriever;
     private final UserRetriever userRetriever;
@@ -35,6 +50,8 @@ public class TaskService {
     private final TimeBlockRetriever timeBlockRetriever;
     private final TaskOrderSaver taskOrderSaver;
     private final TaskOrderRetriever taskOrderRetriever;
+    private final TaskOrderUpdater taskOrderUpdater;
+    private final Validator validator;
 
     @Transactional
     public void updateStatus(
@@ -62,11 +79,89 @@ public class TaskService {
         log.info("task: {}", task.getAssignedDate());
     }
 
+    // 여러 task 의 상태를 updateStatus 와 같은 규칙으로 한 번에 변경한다 (사용자 task 인지 확인 1번 + UPDATE 1번)
+    @Transactional
+    public void updateStatuses(final Long userId, final TaskBulkStatusDto taskBulkStatusDto) {
+        User user = userRetriever.findByUserId(userId);
+        Set<Long> taskIds = new LinkedHashSet<>(taskBulkStatusDto.taskIds());
+        taskRetriever.checkAllByUserAndIds(user, taskIds);
+        LocalDate targetDate = taskBulkStatusDto.targetDate();
+
+        if (targetDate == null) {    //target area에서 staging area로 넘어갈 경우
+            taskUpdater.updateAllToStaging(user, taskIds);
+            taskOrderUpdater.moveTasksAfterCommit(userId, null, taskIds, false);
+        } else if ("완료".equals(taskBulkStatusDto.status())) {
+            taskUpdater.updateAllToDone(user, taskIds, targetDate);
+            taskOrderUpdater.moveTasksAfterCommit(userId, targetDate, taskIds, false);
+        } else {
+            taskUpdater.updateAllToUndone(user, taskIds, targetDate, Status.fromContent(taskBulkStatusDto.status()));
+            taskOrderUpdater.moveTasksAfterCommit(userId, targetDate, taskIds, true);
+        }
+    }
+
     // Staging Area Task 생성 API (데드라인 추가 완료)
     @Transactional
     public Task createTask(final Long userId, final TaskCreateDto taskCreateDto) {
         User user = userRetriever.findByUserId(userId);
+        Task task = toTask(user, taskCreateDto);
+        log.info("task: {}", task.getEndDate());
+        return taskSaver.save(task);
+    }
+
+    // Staging Area Task 일괄 생성. 사용자 조회 1번, insert 는 JDBC batch 로 한 트랜잭션에서 처리한다.
+    @Transactional
+    public TaskBatchCreateResultDto createTasks(final Long userId, final TaskBatchCreateDto taskBatchCreateDto) {
+        User user = userRetriever.findByUserId(userId);
+        List<TaskCreateDto> requests = taskBatchCreateDto.tasks();
+        String[] errors = new String[requests.size()];
+        List<Task> tasks = new ArrayList<>(requests.size());
+        List<Integer> indexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            errors[i] = validate(requests.get(i));
+            if (errors[i] == null) {
+                tasks.add(toTask(user, requests.get(i)));
+                indexes.add(i);
+            }
+        }
+
+        // pooled sequence 로 persist 시점에 id 가 정해지므로 flush 전에도 id 를 돌려줄 수 있다
+        List<Task> savedTasks = taskSaver.saveAll(tasks);
+        Long[] ids = new Long[requests.size()];
+        for (int i = 0; i < savedTasks.size(); i++) {
+            ids[indexes.get(i)] = savedTasks.get(i).getId();
+        }
 
+        List<TaskBatchCreateResultDto.Result> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(TaskBatchCreateResultDto.Result.builder()
+                    .index(i)
+                    .id(ids[i])
+                    .error(errors[i])
+                    .build());
+        }
+        return TaskBatchCreateResultDto.builder()
+                .createdCount(savedTasks.size())
+                .failedCount(requests.size() - savedTasks.size())
+                .results(results)
+                .build();
+    }
+
+    private String validate(final TaskCreateDto taskCreateDto) {
+        if (taskCreateDto == null) {
+            return "task 가 비어 있습니다.";
+        }
+        Set<ConstraintViolation<TaskCreateDto>> violations = validator.validate(taskCreateDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private Task toTask(final User user, final TaskCreateDto taskCreateDto) {
         LocalDate deadLineDate = null;
         LocalTime deadLineTime = null;
 
@@ -75,16 +170,15 @@ public class TaskService {
             deadLineTime = taskCreateDto.deadLine().time();
         }
 
-        Task task = Task.builder()
+        return Task.builder()
                 .user(user)
                 .name(taskCreateDto.name())
                 .deadLineDate(deadLineDate)
                 .deadLineTime(deadLineTime)
                 .build();
-        log.info("task: {}", task.getEndDate());
-        return taskSaver.save(task);
     }
 
+    @Transactional
     public void removeTask(final Long userId, final Long taskId) {
         User user = userRetriever.findByUserId(userId);
         Task task = taskRetriever.findByUserAndId(user, taskId);
@@ -92,6 +186,7 @@ public class TaskService {
     }
 
     // Task 상세 조회 GET API (데드라인 추가 완료)
+    @Transactional(readOnly = true)
     public TaskDetailDto getTaskDetails(final Long userId, final Long taskId, final TargetDateDto targetDateDto) {
         User user = userRetriever.findByUserId(userId);
         Task task = taskRetriever.findByUserAndId(user, taskId);
@@ -112,7 +207,8 @@ public class TaskService {
                 .build();
     }
 
-    // Task 리스트 조회 (데드라인 수정 완료)
+    // Task 리스트 조회 (데드라인 수정 완료). 엔티티 대신 TaskSummary 로 필요한 컬럼만 읽는다.
+    @Transactional(readOnly = true)
     public TasksDto getTasks(
             final Long userId,
             final String order,
@@ -120,7 +216,7 @@ public class TaskService {
     ) {
         User user = userRetriever.findByUserId(userId);
         List<TasksDto.TaskDto> taskItems;
-        List<Task> tasks;
+        List<TaskSummary> tasks;
         if (targetDate != null) {
             TaskOrder taskOrder = taskOrderRetriever.findById(userId, true, targetDate);
             tasks = switch (order) {
@@ -150,15 +246,56 @@ public class TaskService {
         }
         taskItems = tasks.stream().map(
                 task -> TasksDto.TaskDto.builder()
-                        .id(task.getId())
-                        .name(task.getName())
-                        .status(task.getStatus().getContent())
-                        .deadLine(new TaskCreateDto.DeadLine(task.getDeadLineDate(), task.getDeadLineTime()))
+                        .id(task.id())
+                        .name(task.name())
+                        .status(task.status().getContent())
+                        .deadLine(new TaskCreateDto.DeadLine(task.deadLineDate(), task.deadLineTime()))
                         .build()
         ).toList();
         return TasksDto.builder().tasks(taskItems).build();
     }
 
+    // 보관된 완료 task 조회. (endDate, id) 내림차순 keyset 페이지로, size + 1 개를 읽어 다음 페이지 유무를 판단한다.
+    @Transactional(readOnly = true)
+    public TaskHistoryDto getTaskHistory(
+            final Long userId,
+            final LocalDate cursorEndDate,
+            final Long cursorId,
+            final int size
+    ) {
+        if (size < 1 || size > MAX_HISTORY_SIZE || (cursorEndDate == null) != (cursorId == null)) {
+            throw new IllegalArgumentException(IllegalArgumentErrorCode.INVALID_ARGUMENTS);
+        }
+        User user = userRetriever.findByUserId(userId);
+        List<ArchivedTask> tasks = taskRetriever.findArchivedByUser(user, cursorEndDate, cursorId, size + 1);
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
+        }
+        Map<Long, List<TaskHistoryDto.TimeBlock>> timeBlocks = tasks.isEmpty() ? Map.of() :
+                taskRetriever.findArchivedTimeBlocks(tasks.stream().map(ArchivedTask::id).toList()).stream()
+                        .collect(Collectors.groupingBy(
+                                ArchivedTimeBlock::taskId,
+                                Collectors.mapping(
+                                        timeBlock -> new TaskHistoryDto.TimeBlock(timeBlock.startTime(), timeBlock.endTime()),
+                                        Collectors.toList()
+                                )
+                        ));
+        return TaskHistoryDto.builder()
+                .tasks(tasks.stream().map(
+                        task -> TaskHistoryDto.TaskDto.builder()
+                                .id(task.id())
+                                .name(task.name())
+                                .description(task.description())
+                                .deadLine(new TaskCreateDto.DeadLine(task.deadLineDate(), task.deadLineTime()))
+                                .endDate(task.endDate())
+                                .timeBlocks(timeBlocks.getOrDefault(task.id(), List.of()))
+                                .build()
+                ).toList())
+                .hasNext(hasNext)
+                .build();
+    }
+
     // Task 설명 수정 PATCH API (데드라인 수정 완료)
     @Transactional
     public void updateTask(final Long userId, final Long taskId, TaskUpdateDto taskUpdateDto) {
@@ -1,17 +1,26 @@
 package nutshell.server.service.task;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nutshell.server.cache.SecondLevelCacheInvalidator;
 import nutshell.server.domain.Task;
+import nutshell.server.domain.User;
+import nutshell.server.repository.TaskRepository;
 import org.springframework.stereotype.Component;
 import nutshell.server.dto.type.Status;
 import nutshell.server.dto.task.request.TaskUpdateDto;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class TaskUpdater {
+    private final TaskRepository taskRepository;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
 
     // Task 설명 수정 PATCH API
     public void editDetails(
@@ -48,4 +57,20 @@ public class TaskUpdater {
     ) {
         task.updateEndDate(endDate);
     }
+
+    // bulk update 는 다른 인스턴스의 2차 캐시에 반영되지 않으므로 커밋 후 무효화를 알린다
+    public int updateAllToStaging(final User user, final Collection<Long> taskIds) {
+        secondLevelCacheInvalidator.evictAfterCommit(Task.class, taskIds, false);
+        return taskRepository.updateAllToStaging(user, taskIds, Status.TODO, LocalDateTime.now());
+    }
+
+    public int updateAllToDone(final User user, final Collection<Long> taskIds, final LocalDate targetDate) {
+        secondLevelCacheInvalidator.evictAfterCommit(Task.class, taskIds, false);
+        return taskRepository.updateAllToDone(user, taskIds, targetDate, Status.DONE, LocalDateTime.now());
+    }
+
+    public int updateAllToUndone(final User user, final Collection<Long> taskIds, final LocalDate targetDate, final Status status) {
+        secondLevelCacheInvalidator.evictAfterCommit(Task.class, taskIds, false);
+        return taskRepository.updateAllToUndone(user, taskIds, targetDate, status, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,116 @@
+package nutshell.server.service.taskOrder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskOrderUpdater {
+    private static final String TASK_ORDER = "task_order";
+    // @RedisHash 가 저장한 TaskOrder hash(taskList.[i] 필드) 를 그대로 읽고 고친다.
+    // KEYS[1] 도착 순서, KEYS[2] Staging Area 순서, ARGV[1] Staging Area 에서 뺄지('1'), ARGV[2..] 옮길 task id.
+    // 없는 순서 목록은 만들지 않는다 (repository 의 전체 id set 은 건드리지 않기 위해).
+    private static final RedisScript<Long> MOVE_TASKS = RedisScript.of(
+            "local function read(key) " +
+            "  local list = {} " +
+            "  while true do " +
+            "    local taskId = redis.call('HGET', key, 'taskList.[' .. #list .. ']') " +
+            "    if not taskId then return list end " +
+            "    list[#list + 1] = taskId " +
+            "  end " +
+            "end " +
+            "local function write(key, list, size) " +
+            "  for i = 1, #list do redis.call('HSET', key, 'taskList.[' .. (i - 1) .. ']', list[i]) end " +
+            "  for i = #list, size - 1 do redis.call('HDEL', key, 'taskList.[' .. i .. ']') end " +
+            "end " +
+            "local moved = {} " +
+            "for i = 2, #ARGV do moved[ARGV[i]] = true end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local list = read(KEYS[1]) " +
+            "  local size = #list " +
+            "  local present = {} " +
+            "  for _, taskId in ipairs(list) do present[taskId] = true end " +
+            "  for i = 2, #ARGV do " +
+            "    if not present[ARGV[i]] then " +
+            "      present[ARGV[i]] = true " +
+            "      list[#list + 1] = ARGV[i] " +
+            "    end " +
+            "  end " +
+            "  write(KEYS[1], list, size) " +
+            "end " +
+            "if ARGV[1] == '1' and redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  local list = read(KEYS[2]) " +
+            "  local kept = {} " +
+            "  for _, taskId in ipairs(list) do " +
+            "    if not moved[taskId] then kept[#kept + 1] = taskId end " +
+            "  end " +
+            "  write(KEYS[2], kept, #list) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // task 상태 변경이 커밋된 뒤에만 순서를 반영한다. 롤백되면 Redis 는 건드리지 않는다.
+    public void moveTasksAfterCommit(
+            final Long userId,
+            final LocalDate targetDate,
+            final Collection<Long> taskIds,
+            final boolean leaveStaging
+    ) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            moveTasks(userId, targetDate, taskIds, leaveStaging);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    moveTasks(userId, targetDate, taskIds, leaveStaging);
+                } catch (RuntimeException e) {
+                    // 순서는 조회 정렬에만 쓰이므로 실패해도 상태 변경은 유지한다
+                    log.error("TaskOrder update Error : {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    // targetDate 가 null 이면 Staging Area 순서, 아니면 해당 날짜 순서의 끝에 붙인다 (이미 있는 task 는 위치 유지).
+    // 두 순서 목록을 Lua 스크립트 하나로 고치므로 같은 사용자의 요청이 겹쳐도 한쪽 변경이 덮어써지지 않는다.
+    private void moveTasks(
+            final Long userId,
+            final LocalDate targetDate,
+            final Collection<Long> taskIds,
+            final boolean leaveStaging
+    ) {
+        List<String> args = new ArrayList<>(taskIds.size() + 1);
+        args.add(leaveStaging ? "1" : "0");
+        taskIds.forEach(taskId -> args.add(String.valueOf(taskId)));
+        stringRedisTemplate.execute(
+                MOVE_TASKS,
+                List.of(key(userId, targetDate != null, targetDate), key(userId, false, null)),
+                args.toArray()
+        );
+    }
+
+    // TaskOrder id 는 "{userId}-{type}[-{targetDate}]"
+    private String key(final Long userId, final Boolean type, final LocalDate targetDate) {
+        String id = userId + "-" + type;
+        if (targetDate != null) {
+            id += "-" + targetDate;
+        }
+        return TASK_ORDER + ":" + id;
+    }
+}
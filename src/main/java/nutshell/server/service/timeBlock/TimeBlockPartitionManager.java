@@ -0,0 +1,111 @@
+package nutshell.server.service.timeBlock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// time_block 월 파티션 관리. 앞으로 쓸 달의 파티션을 미리 만들고, 보관 기간이 지난 달은 분리(detach)한다.
+// 분리된 파티션은 time_block_yyyyMM 테이블로 남아 있으므로 백업 후 삭제하거나 다른 저장소로 옮긴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeBlockPartitionManager {
+    private static final String PARENT = "time_block";
+    private static final String DEFAULT_PARTITION = "time_block_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    // 이 관리자가 만든 월 파티션만 다룬다. 손으로 붙인 다른 이름의 파티션은 건드리지 않는다.
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile(PARENT + "_\\d{4}(0[1-9]|1[0-2])");
+    // 여러 인스턴스가 동시에 DDL 을 실행하지 않도록 하는 advisory lock 키
+    private static final long LOCK_KEY = 48_000_001L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    @Value("${time-block.partition.months-ahead}")
+    private int MONTHS_AHEAD;
+    @Value("${time-block.partition.retention-months}")
+    private int RETENTION_MONTHS;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 3 * * *")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> maintainPartitions());
+        } catch (Exception e) {
+            log.error("TimeBlock partition maintenance Error : {}", e.getMessage());
+        }
+    }
+
+    // advisory lock 은 트랜잭션이 끝날 때 풀리므로 DDL 전체를 한 트랜잭션으로 묶는다
+    private void maintainPartitions() {
+        Boolean locked = jdbcTemplate.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        Set<String> partitions = new HashSet<>(jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid " +
+                        "where i.inhparent = ?::regclass",
+                String.class,
+                PARENT
+        ));
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= MONTHS_AHEAD; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!partitions.contains(partitionName(month))) {
+                createPartition(month);
+            }
+        }
+        YearMonth oldestRetained = current.minusMonths(RETENTION_MONTHS);
+        partitions.stream()
+                .filter(name -> MONTHLY_PARTITION.matcher(name).matches())
+                .filter(name -> YearMonth.parse(name.substring(PARENT.length() + 1), SUFFIX).isBefore(oldestRetained))
+                .sorted()
+                .forEach(this::detachPartition);
+    }
+
+    // default 파티션에 이미 들어간 해당 달의 행을 새 파티션으로 옮긴 뒤 attach 한다 (attach 는 default 에 겹치는 행이 있으면 실패).
+    // 복사와 삭제 사이에 default 로 들어온 행이 복사 없이 지워지지 않도록 먼저 default 에 쓰기를 막는다 (읽기는 허용).
+    private void createPartition(final YearMonth month) {
+        String name = partitionName(month);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("create table " + name + " (like " + PARENT + " including defaults)");
+        jdbcTemplate.execute("lock table " + DEFAULT_PARTITION + " in exclusive mode");
+        List<Object> range = List.of(from, to);
+        jdbcTemplate.update(
+                "insert into " + name + " select * from " + DEFAULT_PARTITION + " where start_time >= ? and start_time < ?",
+                range.toArray()
+        );
+        jdbcTemplate.update(
+                "delete from " + DEFAULT_PARTITION + " where start_time >= ? and start_time < ?",
+                range.toArray()
+        );
+        jdbcTemplate.execute(
+                "alter table " + PARENT + " attach partition " + name +
+                        " for values from ('" + from + "') to ('" + to + "')"
+        );
+        log.info("TimeBlock partition {} created", name);
+    }
+
+    private void detachPartition(final String name) {
+        jdbcTemplate.execute("alter table " + PARENT + " detach partition " + name);
+        log.info("TimeBlock partition {} detached for archiving", name);
+    }
+
+    private String partitionName(final YearMonth month) {
+        return PARENT + "_" + month.format(SUFFIX);
+    }
+}
@@ -13,6 +13,8 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -38,7 +40,7 @@ public class TimeBlockRetriever {
             final LocalDateTime startTime,
             final LocalDateTime endTime
     ) {
-        return timeBlockRepository.existsByTaskUserAndStartTimeBetweenAndEndTimeBetween(user, startTime, endTime);
+        return timeBlockRepository.existsByTaskUserAndStartTimeBetweenAndEndTimeBetween(user, startTime.minusDays(1), startTime, endTime);
     }
 
     public Boolean existsByTaskAndStartTimeBetweenAndEndTimeBetweenAndIdNot( //2번째
@@ -47,7 +49,7 @@ public class TimeBlockRetriever {
             final LocalDateTime startTime,
             final LocalDateTime endTime
     ) {
-        return timeBlockRepository.existsByTaskAndStartTimeBetweenAndEndTimeBetweenAndIdNot(user, id, startTime, endTime);
+        return timeBlockRepository.existsByTaskAndStartTimeBetweenAndEndTimeBetweenAndIdNot(user, id, startTime.minusDays(1), startTime, endTime);
     }
 
     public Boolean existsByTaskAndStartTimeBetweenAndEndTimeBetween(
@@ -58,11 +60,22 @@ public class TimeBlockRetriever {
         return timeBlockRepository.existsByTaskAndStartTimeBetweenAndEndTimeBetween(task, startTime, endTime);
     }
 
-    public List<TimeBlockDto> findAllByTaskIdAndTimeRange(
-            final Task task,
+    // task 별로 조회하지 않고 한 번에 가져와 task id 로 묶는다
+    public Map<Long, List<TimeBlockDto>> findAllByTasksAndTimeRange(
+            final List<Task> tasks,
             final LocalDateTime startTime,
             final LocalDateTime endTime
     ) {
-        return timeBlockRepository.findAllByTaskIdAndTimeRange(task, startTime, endTime);
+        if (tasks.isEmpty()) {
+            return Map.of();
+        }
+        return timeBlockRepository.findAllByTasksAndTimeRange(tasks, startTime, endTime).stream()
+                .collect(Collectors.groupingBy(
+                        timeBlock -> timeBlock.getTask().getId(),
+                        Collectors.mapping(
+                                timeBlock -> new TimeBlockDto(timeBlock.getId(), timeBlock.getStartTime(), timeBlock.getEndTime()),
+                                Collectors.toList()
+                        )
+                ));
     }
 }
@@ -6,6 +6,7 @@ import nutshell.server.domain.Task;
 import nutshell.server.domain.TimeBlock;
 import nutshell.server.domain.User;
 import nutshell.server.dto.timeBlock.request.TimeBlockRequestDto;
+import nutshell.server.dto.timeBlock.response.TimeBlockDto;
 import nutshell.server.dto.timeBlock.response.TimeBlockTasksDto;
 import nutshell.server.dto.timeBlock.response.TimeBlocksDto;
 import nutshell.server.exception.BusinessException;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -79,6 +81,7 @@ public class TimeBlockService {
         timeBlockRemover.remove(timeBlock);
     }
 
+    @Transactional(readOnly = true)
     public TimeBlockTasksDto getTimeBlocks(
             final Long userId,
             final LocalDate startDate,
@@ -87,13 +90,14 @@ public class TimeBlockService {
         LocalDateTime startTime = startDate.atStartOfDay();
         LocalDateTime endTime = startDate.plusDays(range-1).atTime(23,59,59);
         User user = userRetriever.findByUserId(userId);
-        List<TimeBlocksDto> tasks = taskRetriever.findAllByUserAndTimeBlocks(user, startTime, endTime)
-                .stream().map(
+        List<Task> userTasks = taskRetriever.findAllByUserAndTimeBlocks(user, startTime, endTime);
+        Map<Long, List<TimeBlockDto>> timeBlocks = timeBlockRetriever.findAllByTasksAndTimeRange(userTasks, startTime, endTime);
+        List<TimeBlocksDto> tasks = userTasks.stream().map(
                         task -> TimeBlocksDto.builder()
                                 .id(task.getId())
                                 .name(task.getName())
                                 .status(task.getStatus().getContent())
-                                .timeBlocks(timeBlockRetriever.findAllByTaskIdAndTimeRange(task, startTime, endTime))
+                                .timeBlocks(timeBlocks.getOrDefault(task.getId(), List.of()))
                                 .build()
                 ).toList();
         return TimeBlockTasksDto.builder()
@@ -10,4 +10,5 @@ import org.springframework.stereotype.Component;
 public class TokenRemover {
     private final TokenRepository tokenRepository;
     public void deleteToken(final Token token) {tokenRepository.delete(token);}
+    public void deleteById(final Long userId) {tokenRepository.deleteById(userId);}
 }
@@ -0,0 +1,93 @@
+package nutshell.server.service.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 사용자 탈퇴 시 @RedisHash 로 저장된 TaskOrder / GoogleSchedule / GoogleCategory 를 repository 를 거치지 않고 한 번에 지운다.
+// Spring Data Redis 의 저장 구조(hash, 전체 id set, @Indexed 보조 set)를 그대로 정리한다.
+@Component
+@RequiredArgsConstructor
+public class UserRedisKeyRemover {
+    private static final String TASK_ORDER = "task_order";
+    private static final String GOOGLE_SCHEDULE = "google_schedule";
+    private static final String GOOGLE_CATEGORY = "google_category";
+    private static final String GOOGLE_CALENDAR_ID_INDEX = ":googleCalendarId:";
+    private static final String GOOGLE_CATEGORY_ID_INDEX = ":googleCategoryId:";
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void removeAll(final Long userId, final List<Long> googleCalendarIds) {
+        List<String> taskOrderIds = findTaskOrderIds(userId);
+        List<Object> memberSets = findMembersByGoogleCalendarIds(googleCalendarIds);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (String taskOrderId : taskOrderIds) {
+                redis.del(TASK_ORDER + ":" + taskOrderId);
+                redis.sRem(TASK_ORDER, taskOrderId);
+            }
+            for (int i = 0; i < googleCalendarIds.size(); i++) {
+                Long googleCalendarId = googleCalendarIds.get(i);
+                for (String scheduleId : members(memberSets.get(i * 2))) {
+                    removeHash(redis, GOOGLE_SCHEDULE, scheduleId);
+                    // googleCategoryId 는 Google 캘린더 id 라 다른 사용자와 공유될 수 있으므로 set 을 지우지 않고 제거만 한다
+                    String googleCategoryId = scheduleId.substring(scheduleId.indexOf(':') + 1);
+                    redis.sRem(GOOGLE_SCHEDULE + GOOGLE_CATEGORY_ID_INDEX + googleCategoryId, scheduleId);
+                }
+                for (String categoryId : members(memberSets.get(i * 2 + 1))) {
+                    removeHash(redis, GOOGLE_CATEGORY, categoryId);
+                }
+                redis.del(
+                        GOOGLE_SCHEDULE + GOOGLE_CALENDAR_ID_INDEX + googleCalendarId,
+                        GOOGLE_CATEGORY + GOOGLE_CALENDAR_ID_INDEX + googleCalendarId
+                );
+            }
+            return null;
+        });
+    }
+
+    // TaskOrder id 는 "{userId}-{type}[-{targetDate}]"
+    private List<String> findTaskOrderIds(final Long userId) {
+        List<String> taskOrderIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(userId + "-*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(TASK_ORDER, options)) {
+            cursor.forEachRemaining(taskOrderIds::add);
+        }
+        return taskOrderIds;
+    }
+
+    // googleCalendarId 마다 [schedule id set, category id set] 순서로 담긴다
+    private List<Object> findMembersByGoogleCalendarIds(final List<Long> googleCalendarIds) {
+        if (googleCalendarIds.isEmpty()) {
+            return List.of();
+        }
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Long googleCalendarId : googleCalendarIds) {
+                redis.sMembers(GOOGLE_SCHEDULE + GOOGLE_CALENDAR_ID_INDEX + googleCalendarId);
+                redis.sMembers(GOOGLE_CATEGORY + GOOGLE_CALENDAR_ID_INDEX + googleCalendarId);
+            }
+            return null;
+        });
+    }
+
+    private void removeHash(final StringRedisConnection redis, final String keyspace, final String id) {
+        redis.del(keyspace + ":" + id, keyspace + ":" + id + ":idx");
+        redis.sRem(keyspace, id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> members(final Object result) {
+        return result == null ? Set.of() : (Set<String>) result;
+    }
+}
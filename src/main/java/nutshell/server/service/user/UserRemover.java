@@ -0,0 +1,25 @@
+package nutshell.server.service.user;
+
+import lombok.RequiredArgsConstructor;
+import nutshell.server.cache.SecondLevelCacheInvalidator;
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.User;
+import nutshell.server.repository.UserRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class UserRemover {
+    private final UserRepository userRepository;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    // DB cascade 로 지워진 google_calendar 도 2차 캐시에서 지운다.
+    // task 는 항상 user 로 먼저 조회하므로 남은 캐시는 읽히지 않고 TTL 로 만료된다.
+    public void remove(final User user, final List<Long> googleCalendarIds) {
+        userRepository.deleteByIdInBulk(user.getId());
+        secondLevelCacheInvalidator.evictAfterCommit(User.class, List.of(user.getId()), true);
+        secondLevelCacheInvalidator.evictAfterCommit(GoogleCalendar.class, googleCalendarIds, true);
+    }
+}
@@ -1,16 +1,33 @@
 package nutshell.server.service.user;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nutshell.server.domain.GoogleCalendar;
 import nutshell.server.domain.User;
 import nutshell.server.dto.googleCalender.response.UserEmailDto;
 import nutshell.server.dto.user.response.UserDto;
+import nutshell.server.service.google.GoogleCalendarClientFactory;
+import nutshell.server.service.googleCalendar.GoogleCalendarRetriever;
+import nutshell.server.service.googleChannel.GoogleChannelService;
+import nutshell.server.service.token.TokenRemover;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRetriever userRetriever;
+    private final UserRemover userRemover;
+    private final UserRedisKeyRemover userRedisKeyRemover;
+    private final GoogleCalendarRetriever googleCalendarRetriever;
+    private final GoogleChannelService googleChannelService;
+    private final GoogleCalendarClientFactory googleCalendarClientFactory;
+    private final TokenRemover tokenRemover;
 
     @Transactional(readOnly = true)
     public UserDto getUser(final Long userId){
@@ -30,4 +47,41 @@ public class UserService {
                                 .toList()
                 ).build();
     }
+
+    // 회원 탈퇴. DB 는 DELETE 한 번(하위 테이블은 ON DELETE CASCADE), Redis 는 pipeline 한 번으로 정리한다.
+    // 채널 중지, 클라이언트 캐시, Redis 정리, 토큰 삭제는 되돌릴 수 없으므로 DELETE 가 커밋된 뒤에만 실행한다.
+    @Transactional
+    public void withdraw(final Long userId) {
+        User user = userRetriever.findByUserId(userId);
+        List<GoogleCalendar> googleCalendars = googleCalendarRetriever.findAllByUser(user);
+        List<Long> googleCalendarIds = googleCalendars.stream().map(GoogleCalendar::getId).toList();
+        userRemover.remove(user, googleCalendarIds);
+        // 토큰을 먼저 지워서 뒤 단계가 실패해도 refresh token 은 남지 않게 한다
+        runAfterCommit(() -> {
+            tokenRemover.deleteById(userId);
+            userRedisKeyRemover.removeAll(userId, googleCalendarIds);
+            googleCalendars.forEach(googleCalendar -> {
+                googleChannelService.stop(googleCalendar);
+                googleCalendarClientFactory.evict(googleCalendar.getId());
+            });
+        });
+    }
+
+    private void runAfterCommit(final Runnable cleanup) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cleanup.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    cleanup.run();
+                } catch (RuntimeException e) {
+                    // 탈퇴는 이미 커밋됐으므로 되돌리지 않고 실패만 로그로 남긴다
+                    log.error("User withdraw cleanup Error : {}", e.getMessage());
+                }
+            }
+        });
+    }
 }
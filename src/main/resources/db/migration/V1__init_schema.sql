@@ -0,0 +1,62 @@
+-- Flyway 도입 전 엔티티 매핑과 같은 테이블 / 컬럼 구성. 제약 이름은 Hibernate 가 만들던 해시 이름과 다르다 (V4 참고).
+-- 이미 운영 중인 DB 는 baseline(1) 으로 표시되어 이 파일을 건너뛰므로, 이후 추가되는 컬럼은 여기가 아니라 새 버전으로 넣는다.
+create table users (
+    id          bigint generated by default as identity,
+    given_name  varchar(255),
+    family_name varchar(255),
+    image       varchar(255) not null,
+    email       varchar(255) not null,
+    serial_id   varchar(255) not null,
+    created_at  timestamp(6) not null,
+    updated_at  timestamp(6) not null,
+    primary key (id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_serial_id unique (serial_id)
+);
+
+create table task (
+    id             bigint generated by default as identity,
+    name           varchar(255) not null,
+    description    varchar(255),
+    priority       varchar(255),
+    dead_line_date date,
+    dead_line_time time(6),
+    assigned_date  date,
+    end_date       date,
+    reminder       varchar(255),
+    repetition     varchar(255),
+    status         varchar(255) not null check (status in ('TODO', 'DONE', 'IN_PROGRESS')),
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6) not null,
+    user_id        bigint not null,
+    primary key (id),
+    constraint fk_task_user foreign key (user_id) references users
+);
+
+create table time_block (
+    id         bigint generated by default as identity,
+    start_time timestamp(6) not null,
+    end_time   timestamp(6) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    task_id    bigint not null,
+    primary key (id),
+    constraint fk_time_block_task foreign key (task_id) references task
+);
+
+create table google_calendar (
+    id            bigint generated by default as identity,
+    refresh_token varchar(255) not null,
+    access_token  varchar(255) not null,
+    email         varchar(255) not null,
+    serial_id     varchar(255) not null,
+    created_at    timestamp(6) not null,
+    updated_at    timestamp(6) not null,
+    user_id       bigint not null,
+    primary key (id),
+    constraint uk_google_calendar_refresh_token unique (refresh_token),
+    constraint uk_google_calendar_access_token unique (access_token),
+    constraint uk_google_calendar_email unique (email),
+    constraint uk_google_calendar_serial_id unique (serial_id),
+    constraint fk_google_calendar_user foreign key (user_id) references users
+);
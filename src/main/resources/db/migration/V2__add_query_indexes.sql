@@ -0,0 +1,11 @@
+-- 할당된 할 일 조회 (user_id = ? and assigned_date/end_date 범위), 사용자 기준 exists / join 의 선두 컬럼으로도 쓰인다
+create index if not exists idx_task_user_assigned_end on task (user_id, assigned_date, end_date);
+
+-- Staging Area(assigned_date is null) 조회와 created_at 정렬
+create index if not exists idx_task_user_staging_created on task (user_id, created_at) where assigned_date is null;
+
+-- task 별 기간 조회 / 충돌 검사 (end_time 은 heap 접근 없이 걸러내도록 포함)
+create index if not exists idx_time_block_task_start on time_block (task_id, start_time) include (end_time);
+
+-- 사용자별 연동 캘린더 조회
+create index if not exists idx_google_calendar_user on google_calendar (user_id);
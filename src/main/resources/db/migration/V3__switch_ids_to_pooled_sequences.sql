@@ -0,0 +1,23 @@
+-- IDENTITY -> SEQUENCE(pooled, allocationSize 50). Hibernate 는 nextval 한 번으로 [값 - 49, 값] 구간의 id 를 쓴다.
+-- 컬럼 default 도 같은 시퀀스로 남겨 두어 JPA 를 거치지 않는 insert 는 nextval 값을 그대로 쓴다 (구간이 겹치지 않는다).
+-- setval(max(id) + 50, false): 다음 nextval 이 max(id) + 50 이 되어 기존 id 이후 구간부터 할당된다.
+
+alter table users alter column id drop identity if exists;
+create sequence users_id_seq increment by 50 owned by users.id;
+select setval('users_id_seq', coalesce(max(id), 0) + 50, false) from users;
+alter table users alter column id set default nextval('users_id_seq');
+
+alter table task alter column id drop identity if exists;
+create sequence task_id_seq increment by 50 owned by task.id;
+select setval('task_id_seq', coalesce(max(id), 0) + 50, false) from task;
+alter table task alter column id set default nextval('task_id_seq');
+
+alter table time_block alter column id drop identity if exists;
+create sequence time_block_id_seq increment by 50 owned by time_block.id;
+select setval('time_block_id_seq', coalesce(max(id), 0) + 50, false) from time_block;
+alter table time_block alter column id set default nextval('time_block_id_seq');
+
+alter table google_calendar alter column id drop identity if exists;
+create sequence google_calendar_id_seq increment by 50 owned by google_calendar.id;
+select setval('google_calendar_id_seq', coalesce(max(id), 0) + 50, false) from google_calendar;
+alter table google_calendar alter column id set default nextval('google_calendar_id_seq');
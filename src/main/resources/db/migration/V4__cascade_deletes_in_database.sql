@@ -0,0 +1,22 @@
+-- 하위 행 삭제를 JPA CascadeType.REMOVE(한 건씩 조회 후 삭제) 대신 DB 의 ON DELETE CASCADE 로 처리한다.
+-- Hibernate 가 만든 기존 DB 는 FK 이름이 해시값이라 이름과 관계없이 세 테이블의 FK 를 모두 다시 만든다.
+do $$
+declare
+    fk record;
+begin
+    for fk in
+        select c.conname, c.conrelid::regclass as table_name
+        from pg_constraint c
+        where c.contype = 'f'
+          and c.conrelid in ('task'::regclass, 'time_block'::regclass, 'google_calendar'::regclass)
+    loop
+        execute format('alter table %s drop constraint %I', fk.table_name, fk.conname);
+    end loop;
+end $$;
+
+alter table task
+    add constraint fk_task_user foreign key (user_id) references users on delete cascade;
+alter table time_block
+    add constraint fk_time_block_task foreign key (task_id) references task on delete cascade;
+alter table google_calendar
+    add constraint fk_google_calendar_user foreign key (user_id) references users on delete cascade;
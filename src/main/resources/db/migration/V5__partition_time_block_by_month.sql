@@ -0,0 +1,51 @@
+-- time_block 을 start_time 기준 월 단위 range partition 으로 바꾼다.
+-- 파티션 테이블의 PK 는 파티션 키를 포함해야 하므로 (id, start_time). id 는 계속 time_block_id_seq 에서 받는다.
+-- 이후 달의 파티션 생성과 오래된 파티션 분리는 TimeBlockPartitionManager 가 담당한다.
+
+alter table time_block rename to time_block_legacy;
+alter index time_block_pkey rename to time_block_legacy_pkey;
+drop index if exists idx_time_block_task_start;
+alter sequence time_block_id_seq owned by none;
+
+create table time_block (
+    id         bigint       not null default nextval('time_block_id_seq'),
+    start_time timestamp(6) not null,
+    end_time   timestamp(6) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    task_id    bigint       not null,
+    primary key (id, start_time),
+    constraint fk_time_block_task foreign key (task_id) references task on delete cascade
+) partition by range (start_time);
+
+create index idx_time_block_task_start on time_block (task_id, start_time) include (end_time);
+
+-- 월 파티션 범위를 벗어난 값(먼 미래 등)을 받는 파티션. 매니저가 해당 달 파티션을 만들 때 행을 옮긴다.
+create table time_block_default partition of time_block default;
+
+-- 기존 데이터가 있는 달부터 3개월 뒤까지
+do $$
+declare
+    month_start date;
+    last_month  date := (date_trunc('month', now()) + interval '3 months')::date;
+begin
+    select coalesce(date_trunc('month', min(start_time)), date_trunc('month', now()))::date
+    into month_start
+    from time_block_legacy;
+    while month_start <= last_month loop
+        execute format(
+                'create table %I partition of time_block for values from (%L) to (%L)',
+                'time_block_' || to_char(month_start, 'YYYYMM'),
+                month_start,
+                (month_start + interval '1 month')::date
+        );
+        month_start := (month_start + interval '1 month')::date;
+    end loop;
+end $$;
+
+insert into time_block (id, start_time, end_time, created_at, updated_at, task_id)
+select id, start_time, end_time, created_at, updated_at, task_id
+from time_block_legacy;
+
+alter sequence time_block_id_seq owned by time_block.id;
+drop table time_block_legacy;
@@ -0,0 +1,40 @@
+-- 오래전에 완료된 task 와 그 time_block 을 옮겨 두는 보관 테이블 (TaskArchiver).
+-- task 테이블과 같은 컬럼에 archived_at 을 더한다. 탈퇴 시에는 users 삭제와 함께 지워진다.
+create table task_archive (
+    id             bigint       not null,
+    name           varchar(255) not null,
+    description    varchar(255),
+    priority       varchar(255),
+    dead_line_date date,
+    dead_line_time time(6),
+    assigned_date  date,
+    end_date       date,
+    reminder       varchar(255),
+    repetition     varchar(255),
+    status         varchar(255) not null,
+    created_at     timestamp(6) not null,
+    updated_at     timestamp(6) not null,
+    user_id        bigint       not null,
+    archived_at    timestamp(6) not null,
+    primary key (id),
+    constraint fk_task_archive_user foreign key (user_id) references users on delete cascade
+);
+
+create table time_block_archive (
+    id         bigint       not null,
+    start_time timestamp(6) not null,
+    end_time   timestamp(6) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    task_id    bigint       not null,
+    primary key (id, start_time),
+    constraint fk_time_block_archive_task foreign key (task_id) references task_archive on delete cascade
+);
+
+-- 히스토리 조회 (user_id = ? 최근 완료 순, (end_date, id) keyset 페이지)
+create index idx_task_archive_user_end on task_archive (user_id, end_date desc, id desc);
+
+create index idx_time_block_archive_task_start on time_block_archive (task_id, start_time);
+
+-- 보관 대상 선택 (status = 'DONE' and end_date < ?)
+create index idx_task_done_end on task (end_date) where status = 'DONE';
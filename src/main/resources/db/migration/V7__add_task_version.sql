@@ -0,0 +1,2 @@
+-- Task 낙관적 잠금(@Version). 기존 행은 0 부터 시작하고, JPA 를 거치지 않는 insert 도 default 로 0 이 된다.
+alter table task add column version bigint not null default 0;
@@ -0,0 +1,2 @@
+-- access token 만료 시각 (GoogleTokenManager 가 만료 전에 미리 재발급할 때 사용). baseline 된 DB 에도 추가되도록 V1 이 아닌 별도 버전으로 둔다.
+alter table google_calendar add column if not exists expires_at timestamp(6);
@@ -0,0 +1,230 @@
+package nutshell.server.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import nutshell.server.config.DefaultPropertyConfig;
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.Task;
+import nutshell.server.domain.User;
+import nutshell.server.dto.type.Status;
+import nutshell.server.repository.GoogleCalendarRepository;
+import nutshell.server.repository.TaskRepository;
+import nutshell.server.repository.UserRepository;
+import nutshell.server.service.task.TaskRemover;
+import nutshell.server.service.task.TaskUpdater;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 같은 Postgres / Redis 를 쓰는 애플리케이션 컨텍스트 두 개를 띄워, 한쪽의 변경이 다른 쪽 2차 캐시에서 지워지는지 확인한다
+@Testcontainers(disabledWithoutDocker = true)
+class SecondLevelCacheInvalidationTest {
+    private static final Duration INVALIDATION_TIMEOUT = Duration.ofSeconds(5);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private ConfigurableApplicationContext first;
+    private ConfigurableApplicationContext second;
+
+    @BeforeEach
+    void setUp() {
+        first = start();
+        second = start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        second.close();
+        first.close();
+    }
+
+    @Test
+    void entityUpdateIsEvictedOnOtherInstance() {
+        User user = createUser(first);
+        Long googleCalendarId = createGoogleCalendar(first, user.getId()).getId();
+
+        assertEquals("access-" + googleCalendarId, accessToken(second, googleCalendarId));
+        long hits = statistics(second).getSecondLevelCacheHitCount();
+        accessToken(second, googleCalendarId);
+        assertTrue(statistics(second).getSecondLevelCacheHitCount() > hits, "second read should hit the cache");
+
+        inTransaction(first, context -> {
+            context.getBean(GoogleCalendarRepository.class).findById(googleCalendarId).orElseThrow()
+                    .updateTokens("updated-" + googleCalendarId, LocalDateTime.now().plusHours(1));
+            return null;
+        });
+
+        await().atMost(INVALIDATION_TIMEOUT)
+                .until(() -> accessToken(second, googleCalendarId).equals("updated-" + googleCalendarId));
+    }
+
+    @Test
+    void insertInvalidatesQueryAndCollectionCacheOnOtherInstance() {
+        User user = createUser(first);
+        createGoogleCalendar(first, user.getId());
+
+        assertEquals(1, googleCalendarCount(second, user.getId()));
+        assertEquals(1, collectionSize(second, user.getId()));
+        long hits = statistics(second).getQueryCacheHitCount();
+        googleCalendarCount(second, user.getId());
+        assertTrue(statistics(second).getQueryCacheHitCount() > hits, "findAllByUser should hit the query cache");
+
+        createGoogleCalendar(first, user.getId());
+
+        await().atMost(INVALIDATION_TIMEOUT)
+                .until(() -> googleCalendarCount(second, user.getId()) == 2 && collectionSize(second, user.getId()) == 2);
+    }
+
+    // TaskUpdater / TaskRemover 의 bulk 경로는 Hibernate 이벤트가 없으므로 evictAfterCommit 메시지로만 지워진다
+    @Test
+    void bulkUpdateAndDeleteAreEvictedOnOtherInstance() {
+        User user = createUser(first);
+        Long taskId = inTransaction(first, context -> context.getBean(TaskRepository.class).save(Task.builder()
+                .user(context.getBean(UserRepository.class).findById(user.getId()).orElseThrow())
+                .name("task")
+                .deadLineDate(LocalDate.now())
+                .build()
+        ).getId());
+
+        assertEquals(Status.TODO, taskStatus(second, taskId));
+        long hits = statistics(second).getSecondLevelCacheHitCount();
+        assertEquals(Status.TODO, taskStatus(second, taskId));
+        assertEquals(hits + 1, statistics(second).getSecondLevelCacheHitCount(), "second read should hit the cache");
+
+        inTransaction(first, context -> context.getBean(TaskUpdater.class).updateAllToDone(
+                context.getBean(UserRepository.class).findById(user.getId()).orElseThrow(), List.of(taskId), LocalDate.now()
+        ));
+
+        await().atMost(INVALIDATION_TIMEOUT).until(() -> !cached(second, taskId));
+        hits = statistics(second).getSecondLevelCacheHitCount();
+        assertEquals(Status.DONE, taskStatus(second, taskId));
+        assertEquals(hits, statistics(second).getSecondLevelCacheHitCount(), "evicted task should be read from the database");
+        assertEquals(Status.DONE, taskStatus(second, taskId));
+        assertEquals(hits + 1, statistics(second).getSecondLevelCacheHitCount(), "reloaded task should be cached again");
+
+        inTransaction(first, context -> {
+            TaskRepository taskRepository = context.getBean(TaskRepository.class);
+            context.getBean(TaskRemover.class).deleteTask(taskRepository.findById(taskId).orElseThrow());
+            return null;
+        });
+
+        await().atMost(INVALIDATION_TIMEOUT).until(() -> !cached(second, taskId));
+        hits = statistics(second).getSecondLevelCacheHitCount();
+        assertNull(taskStatus(second, taskId));
+        assertEquals(hits, statistics(second).getSecondLevelCacheHitCount(), "deleted task should not be served from the cache");
+    }
+
+    private User createUser(final ConfigurableApplicationContext context) {
+        String serial = UUID.randomUUID().toString();
+        return inTransaction(context, c -> c.getBean(UserRepository.class).save(User.builder()
+                .givenName("given").familyName("family").image("image")
+                .email(serial + "@nutshell.com").serialId(serial)
+                .build()
+        ));
+    }
+
+    private GoogleCalendar createGoogleCalendar(final ConfigurableApplicationContext context, final Long userId) {
+        String serial = UUID.randomUUID().toString();
+        return inTransaction(context, c -> {
+            GoogleCalendar googleCalendar = c.getBean(GoogleCalendarRepository.class).save(GoogleCalendar.builder()
+                    .user(c.getBean(UserRepository.class).findById(userId).orElseThrow())
+                    .accessToken("pending-" + serial).refreshToken("refresh-" + serial)
+                    .email(serial + "@gmail.com").serialId(serial)
+                    .build()
+            );
+            googleCalendar.updateTokens("access-" + googleCalendar.getId(), LocalDateTime.now().plusHours(1));
+            return googleCalendar;
+        });
+    }
+
+    private String accessToken(final ConfigurableApplicationContext context, final Long googleCalendarId) {
+        return inTransaction(context, c -> c.getBean(GoogleCalendarRepository.class)
+                .findById(googleCalendarId).orElseThrow().getAccessToken());
+    }
+
+    private int googleCalendarCount(final ConfigurableApplicationContext context, final Long userId) {
+        return inTransaction(context, c -> c.getBean(GoogleCalendarRepository.class)
+                .findAllByUser(c.getBean(UserRepository.class).findById(userId).orElseThrow()).size());
+    }
+
+    private int collectionSize(final ConfigurableApplicationContext context, final Long userId) {
+        return inTransaction(context, c -> c.getBean(UserRepository.class)
+                .findById(userId).orElseThrow().getGoogleCalendars().size());
+    }
+
+    private Status taskStatus(final ConfigurableApplicationContext context, final Long taskId) {
+        return inTransaction(context, c -> c.getBean(TaskRepository.class).findById(taskId).map(Task::getStatus).orElse(null));
+    }
+
+    private boolean cached(final ConfigurableApplicationContext context, final Long taskId) {
+        return context.getBean(EntityManagerFactory.class).getCache().contains(Task.class, taskId);
+    }
+
+    private Statistics statistics(final ConfigurableApplicationContext context) {
+        return context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private <T> T inTransaction(final ConfigurableApplicationContext context, final Function<ConfigurableApplicationContext, T> work) {
+        return context.getBean(TransactionTemplate.class).execute(status -> work.apply(context));
+    }
+
+    // application.yml 보다 우선하도록 커맨드라인 인자로 넘긴다
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(CacheTestApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgres.getUsername(),
+                        "--spring.datasource.password=" + postgres.getPassword(),
+                        "--spring.data.redis.host=" + redis.getHost(),
+                        "--spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "--spring.data.redis.repositories.enabled=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--cache.invalidation.redis.enabled=true"
+                );
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    @Import({
+            DefaultPropertyConfig.class,
+            SecondLevelCacheConfig.class,
+            SecondLevelCacheInvalidator.class,
+            SecondLevelCacheEventListener.class,
+            TaskUpdater.class,
+            TaskRemover.class
+    })
+    static class CacheTestApplication {
+    }
+}
@@ -0,0 +1,208 @@
+package nutshell.server.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import nutshell.server.domain.User;
+import nutshell.server.repository.UserRepository;
+import nutshell.server.security.info.UserAuthentication;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// primary / replica 를 서로 다른 Postgres 두 개로 띄우고, 각 DB 의 routing_marker 값으로 어느 쪽에서 읽었는지 확인한다.
+// 복제는 하지 않으므로 replica 는 LAG_QUERY 상 지연 0 으로 항상 healthy 다.
+@SpringBootTest(properties = {
+        "jwt.access-token-expire-period=86400000",
+        "jwt.refresh-token-expire-period=86400000",
+        "google.calender.client-id=test",
+        "google.calender.client-secret=test",
+        "google.calender.redirect-uri=http://localhost/callback",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "spring.security.oauth2.client.registration.google.redirect-uri=http://localhost/callback",
+        "logging.discord.webhook-uri=http://127.0.0.1:9/discord",
+        "datasource.replica.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ReadWriteRoutingTest {
+    private static final String MARKER_QUERY = "select name from routing_marker";
+    private static final Duration FALLBACK_LIMIT = Duration.ofSeconds(5);
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("datasource.replica.urls", replica::getJdbcUrl);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("jwt.secret-key", () -> Base64.getEncoder().encodeToString(new byte[64]));
+    }
+
+    // 애플리케이션은 replica 에 Flyway 를 돌리지 않으므로 스키마와 표시용 테이블을 직접 만든다
+    @BeforeAll
+    static void markReplica() throws Exception {
+        Flyway.configure().dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()).load().migrate();
+        try (Connection connection = DriverManager.getConnection(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table routing_marker (name varchar(16))");
+            statement.execute("insert into routing_marker values ('replica')");
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 밖이므로 primary
+        jdbcTemplate.execute("create table if not exists routing_marker (name varchar(16))");
+        jdbcTemplate.execute("delete from routing_marker");
+        jdbcTemplate.execute("insert into routing_marker values ('primary')");
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        replicaLagMonitor.check();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionReadsFromReplica() {
+        signIn(101L);
+        assertEquals("replica", readOnly());
+    }
+
+    @Test
+    void committedWriteMakesOnlyThatUserStickyAfterCommit() {
+        signIn(102L);
+        writeTransaction.executeWithoutResult(status -> {
+            assertEquals("primary", jdbcTemplate.queryForObject(MARKER_QUERY, String.class));
+            // 커밋 전에는 아직 기록하지 않는다
+            assertFalse(readYourWritesTracker.isSticky(102L));
+        });
+        assertTrue(readYourWritesTracker.isSticky(102L));
+        assertEquals("primary", readOnly());
+
+        signIn(103L);
+        assertEquals("replica", readOnly());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotMakeUserSticky() {
+        signIn(104L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject(MARKER_QUERY, String.class);
+            status.setRollbackOnly();
+        });
+        assertFalse(readYourWritesTracker.isSticky(104L));
+        assertEquals("replica", readOnly());
+    }
+
+    // 멈춘 replica 는 connection-timeout(250ms) 안에 포기하고 primary 로 읽는다
+    @Test
+    void unresponsiveReplicaFallsBackToPrimaryQuickly() throws InterruptedException {
+        signIn(105L);
+        DockerClientFactory.instance().client().pauseContainerCmd(replica.getContainerId()).exec();
+        try {
+            // HikariCP 는 500ms 안에 쓴 커넥션을 검사 없이 내주므로 setUp 의 check() 이후 잠시 기다린다
+            Thread.sleep(600);
+            long start = System.nanoTime();
+            assertEquals("primary", readOnly());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            assertTrue(elapsed.compareTo(FALLBACK_LIMIT) < 0, elapsed.toString());
+            assertNull(replicaLagMonitor.nextHealthyReplica());
+        } finally {
+            DockerClientFactory.instance().client().unpauseContainerCmd(replica.getContainerId()).exec();
+        }
+    }
+
+    // replica 에서 읽은 엔티티는 2차 캐시에 넣지 않고, 쓰기 트랜잭션에서 읽을 때 넣는다
+    @Test
+    void readOnlyTransactionDoesNotPutIntoSecondLevelCache() throws Exception {
+        String serial = UUID.randomUUID().toString();
+        String insert = "insert into users (id, given_name, family_name, image, email, serial_id, created_at, updated_at) " +
+                "values (?, '길동', '홍', 'https://example.com/image.png', ?, ?, now(), now())";
+        Long userId = jdbcTemplate.queryForObject("select nextval('users_id_seq')", Long.class);
+        jdbcTemplate.update(insert, userId, serial + "@nutshell.com", serial);
+        try (Connection connection = DriverManager.getConnection(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword());
+             PreparedStatement statement = connection.prepareStatement(insert)) {
+            statement.setLong(1, userId);
+            statement.setString(2, serial + "@nutshell.com");
+            statement.setString(3, serial);
+            statement.executeUpdate();
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        signIn(106L);
+
+        long puts = statistics.getSecondLevelCachePutCount();
+        readOnlyTransaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+        assertEquals(puts, statistics.getSecondLevelCachePutCount());
+        assertFalse(entityManagerFactory.getCache().contains(User.class, userId));
+
+        writeTransaction.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow());
+        assertTrue(entityManagerFactory.getCache().contains(User.class, userId));
+    }
+
+    private String readOnly() {
+        return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(MARKER_QUERY, String.class));
+    }
+
+    private void signIn(final Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UserAuthentication(userId, null, List.of()));
+    }
+}
@@ -0,0 +1,141 @@
+package nutshell.server.discord.aggregate;
+
+import nutshell.server.discord.external.DiscordSender;
+import nutshell.server.discord.model.DiscordAlert;
+import nutshell.server.discord.model.Field;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+// 중복 억제 window 가 첫 발생 기준인지, 요약 flush 중에도 발생 횟수를 잃지 않는지 확인한다
+class AlertAggregatorTest {
+    private static final long WINDOW_MILLIS = 1000;
+    private static final String FINGERPRINT = "java.lang.IllegalStateException|Foo.bar(Foo.java:1)|/api/tasks";
+
+    private final AtomicLong now = new AtomicLong();
+    private DiscordSender discordSender;
+    private AlertAggregator alertAggregator;
+
+    @BeforeEach
+    void setUp() {
+        discordSender = mock(DiscordSender.class);
+        when(discordSender.offer(any())).thenReturn(true);
+        alertAggregator = new AlertAggregator(discordSender, WINDOW_MILLIS, WINDOW_MILLIS, now::get);
+    }
+
+    @Test
+    void windowIsAnchoredAtFirstOccurrence() {
+        assertTrue(send(0));
+        assertFalse(send(600));
+        // 마지막 발생(600) 기준이면 아직 window 안이지만, 첫 발생(0) 기준으로는 끝났다
+        assertTrue(send(1200));
+
+        List<DiscordAlert> summaries = summaries();
+        assertEquals(1, summaries.size());
+        assertEquals("1회", field(summaries.get(0), "[억제된 알림]"));
+    }
+
+    @Test
+    void continuousErrorIsReportedOncePerWindow() {
+        int sent = 0;
+        for (long t = 0; t < 3000; t += 100) {
+            if (send(t)) {
+                sent++;
+            }
+        }
+
+        assertEquals(3, sent);
+    }
+
+    @Test
+    void flushDropsOnlyExpiredWindows() {
+        send(0);
+        send(100);
+
+        now.set(500);
+        alertAggregator.flush();
+        assertFalse(send(600), "window still open after flush");
+
+        now.set(WINDOW_MILLIS + 1);
+        alertAggregator.flush();
+        assertTrue(send(WINDOW_MILLIS + 2), "expired window was removed by flush");
+        assertEquals(List.of("1회", "1회"), summaries().stream().map(alert -> field(alert, "[억제된 알림]")).toList());
+    }
+
+    @Test
+    void concurrentFlushDoesNotLoseOccurrences() throws Exception {
+        int threads = 4;
+        int callsPerThread = 20_000;
+        AtomicLong sent = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                while (running.get()) {
+                    alertAggregator.flush();
+                }
+            });
+            List<Future<?>> senders = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                senders.add(executor.submit(() -> {
+                    for (int call = 0; call < callsPerThread; call++) {
+                        // 시간이 흐르면서 window 가 계속 만료되고 새로 만들어진다
+                        if (alertAggregator.shouldSend(FINGERPRINT, "brief")) {
+                            sent.incrementAndGet();
+                        }
+                        now.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> sender : senders) {
+                sender.get(30, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        alertAggregator.flush();
+
+        long suppressed = summaries().stream()
+                .mapToLong(alert -> Long.parseLong(field(alert, "[억제된 알림]").replace("회", "")))
+                .sum();
+        // 모든 발생은 바로 보냈거나 요약의 억제 건수에 들어가야 한다
+        assertEquals((long) threads * callsPerThread, sent.get() + suppressed);
+    }
+
+    private boolean send(final long at) {
+        now.set(at);
+        return alertAggregator.shouldSend(FINGERPRINT, "brief");
+    }
+
+    private List<DiscordAlert> summaries() {
+        ArgumentCaptor<DiscordAlert> offered = ArgumentCaptor.forClass(DiscordAlert.class);
+        verify(discordSender, atLeast(0)).offer(offered.capture());
+        return offered.getAllValues().stream()
+                .filter(alert -> alert.key().startsWith("summary|"))
+                .toList();
+    }
+
+    private static String field(final DiscordAlert alert, final String name) {
+        return alert.embeds().get(0).getFields().stream()
+                .filter(field -> field.name().equals(name))
+                .map(Field::value)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,161 @@
+package nutshell.server.monitoring;
+
+import nutshell.server.annotation.QueryBudget;
+import nutshell.server.constant.AuthConstant;
+import nutshell.server.repository.UserRepository;
+import nutshell.server.utils.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// monitoring.query-budget.enforce=true(test application.properties) 인 상태로 전체 애플리케이션을 띄워서
+// @QueryBudget 이 붙은 조회 API 가 예산 안에서 동작하고, 예산을 넘긴 호출은 실패하는지 확인한다
+@SpringBootTest(properties = {
+        "jwt.access-token-expire-period=86400000",
+        "jwt.refresh-token-expire-period=86400000",
+        "google.calender.client-id=test",
+        "google.calender.client-secret=test",
+        "google.calender.redirect-uri=http://localhost/callback",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "spring.security.oauth2.client.registration.google.redirect-uri=http://localhost/callback",
+        "logging.discord.webhook-uri=http://127.0.0.1:9/discord"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class QueryBudgetTest {
+    private static final int TASKS = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("jwt.secret-key", () -> Base64.getEncoder().encodeToString(new byte[64]));
+    }
+
+    @TestConfiguration
+    static class OverBudgetConfig {
+        @Bean
+        OverBudgetProbe overBudgetProbe(final UserRepository userRepository) {
+            return new OverBudgetProbe(userRepository);
+        }
+    }
+
+    // 예산(1) 보다 많은 쿼리(2)를 실행한다. count 는 2차 캐시를 타지 않는다.
+    static class OverBudgetProbe {
+        private final UserRepository userRepository;
+
+        OverBudgetProbe(final UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @QueryBudget(max = 1)
+        public long countTwice() {
+            return userRepository.count() + userRepository.count();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private OverBudgetProbe overBudgetProbe;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String serial = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "insert into users (given_name, family_name, image, email, serial_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                "길동", "홍", "https://example.com/image.png", serial + "@nutshell.com", serial, now, now
+        );
+        Long userId = jdbcTemplate.queryForObject("select id from users where serial_id = ?", Long.class, serial);
+        // 절반은 Staging Area, 절반은 오늘 할당하고 time block 을 하나씩 둔다
+        for (int i = 0; i < TASKS; i++) {
+            jdbcTemplate.update(
+                    "insert into task (name, description, status, assigned_date, created_at, updated_at, user_id) values (?, ?, ?, ?, ?, ?, ?)",
+                    "할 일 " + i, "설명 " + i, "TODO", i % 2 == 0 ? null : Date.valueOf(LocalDate.now()), now, now, userId
+            );
+        }
+        jdbcTemplate.update(
+                "insert into time_block (task_id, start_time, end_time, created_at, updated_at) " +
+                        "select t.id, current_date + interval '9 hour', current_date + interval '10 hour', now(), now() " +
+                        "from task t where t.user_id = ? and t.assigned_date is not null",
+                userId
+        );
+        accessToken = jwtUtil.generateTokens(userId).accessToken();
+    }
+
+    @Test
+    void getTasksStaysWithinBudget() throws Exception {
+        for (String order : new String[]{"recent", "old", "near", "far", "user"}) {
+            mockMvc.perform(get("/api/tasks").param("order", order).header(AuthConstant.AUTHORIZATION_HEADER, bearer()))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/tasks").param("order", order).param("targetDate", LocalDate.now().toString())
+                            .header(AuthConstant.AUTHORIZATION_HEADER, bearer()))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void getTimeBlocksStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/tasks/time-blocks")
+                        .param("startDate", LocalDate.now().minusDays(3).toString())
+                        .param("range", "7")
+                        .header(AuthConstant.AUTHORIZATION_HEADER, bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getUserStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/users").header(AuthConstant.AUTHORIZATION_HEADER, bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void overBudgetCallFails() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, overBudgetProbe::countTwice);
+        assertTrue(exception.getMessage().contains("2 / 1"), exception.getMessage());
+    }
+
+    private String bearer() {
+        return AuthConstant.BEARER_PREFIX + accessToken;
+    }
+}
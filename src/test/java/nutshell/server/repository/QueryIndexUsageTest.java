@@ -0,0 +1,170 @@
+package nutshell.server.repository;
+
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.Task;
+import nutshell.server.domain.TimeBlock;
+import nutshell.server.domain.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Flyway 로 만든 스키마 위에서 repository 쿼리가 실제로 실행하는 SQL 을 잡아 EXPLAIN 하고, 기대한 인덱스를 타는지 확인한다
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=nutshell.server.repository.QueryIndexUsageTest$CapturingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexUsageTest {
+    // time_block 은 월 파티션이라 플랜에는 idx_time_block_task_start 대신 파티션별 인덱스 이름이 나온다
+    private static final String TIME_BLOCK_TASK_START_INDEX = "task_id_start_time";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private GoogleCalendarRepository googleCalendarRepository;
+
+    private final LocalDate today = LocalDate.of(2024, 7, 1);
+    private final LocalDateTime startOfDay = today.atStartOfDay();
+    private final LocalDateTime endOfDay = today.atTime(23, 59, 59);
+    private User user;
+    private Task task;
+    private TimeBlock timeBlock;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .givenName("given").familyName("family").image("image")
+                .email("user@nutshell.com").serialId("serial").build());
+        task = entityManager.persist(Task.builder()
+                .user(user).name("task").deadLineDate(today).build());
+        timeBlock = entityManager.persist(TimeBlock.builder()
+                .task(task).startTime(startOfDay.plusHours(9)).endTime(startOfDay.plusHours(10)).build());
+        entityManager.persist(GoogleCalendar.builder()
+                .user(user).accessToken("access").refreshToken("refresh")
+                .email("calendar@nutshell.com").serialId("calendar-serial").build());
+        entityManager.flush();
+        entityManager.clear();
+        // 테이블이 작아도 인덱스를 쓸 수 있으면 쓰도록 한다 (트랜잭션 롤백 시 함께 되돌아간다)
+        jdbcTemplate.execute("set enable_seqscan = off");
+    }
+
+    @Test
+    void taskQueriesUseIndexes() {
+        assertUsesIndex("task_pkey", () -> taskRepository.findByUserAndId(user, task.getId()));
+        assertUsesIndex(TIME_BLOCK_TASK_START_INDEX, () -> taskRepository.findAllByUserAndTimeBlocks(user, startOfDay, endOfDay));
+    }
+
+    @Test
+    void taskListQueriesUseIndexes() {
+        for (String orderBy : List.of(
+                TaskQueryRepository.ORDER_BY_CREATED_AT_DESC,
+                TaskQueryRepository.ORDER_BY_CREATED_AT_ASC,
+                TaskQueryRepository.ORDER_BY_TIME_DIFF_ASC,
+                TaskQueryRepository.ORDER_BY_TIME_DIFF_DESC,
+                TaskQueryRepository.ORDER_BY_CUSTOM
+        )) {
+            assertUsesIndex("idx_task_user_assigned_end", TaskQueryRepository.ASSIGNED + orderBy);
+            assertUsesIndex("idx_task_user_staging_created", TaskQueryRepository.STAGING + orderBy);
+        }
+    }
+
+    @Test
+    void taskArchiveQueriesUseIndexes() {
+        assertUsesIndex("idx_task_done_end", TaskArchiveRepository.ARCHIVABLE);
+        assertUsesIndex("idx_task_archive_user_end", TaskArchiveRepository.HISTORY_FIRST_PAGE);
+        assertUsesIndex("idx_task_archive_user_end", TaskArchiveRepository.HISTORY_NEXT_PAGE);
+    }
+
+    @Test
+    void timeBlockQueriesUseIndexes() {
+        assertUsesIndex(TIME_BLOCK_TASK_START_INDEX, () -> timeBlockRepository.existsByTaskUserAndStartTimeBetweenAndEndTimeBetween(user, startOfDay.minusDays(1), startOfDay, endOfDay));
+        assertUsesIndex(TIME_BLOCK_TASK_START_INDEX, () -> timeBlockRepository.existsByTaskAndStartTimeBetweenAndEndTimeBetweenAndIdNot(user, timeBlock.getId(), startOfDay.minusDays(1), startOfDay, endOfDay));
+        assertUsesIndex(TIME_BLOCK_TASK_START_INDEX, () -> timeBlockRepository.existsByTaskAndStartTimeBetweenAndEndTimeBetween(task, startOfDay, endOfDay));
+        assertUsesIndex(TIME_BLOCK_TASK_START_INDEX, () -> timeBlockRepository.findAllByTasksAndTimeRange(List.of(task), startOfDay, endOfDay));
+        assertUsesIndex("time_block_default_", () -> timeBlockRepository.findByTaskAndId(task, timeBlock.getId()));
+        assertUsesIndex(TIME_BLOCK_TASK_START_INDEX, () -> timeBlockRepository.findByTaskIdAndTargetDate(task, startOfDay, endOfDay));
+    }
+
+    @Test
+    void googleCalendarQueriesUseIndexes() {
+        assertUsesIndex("idx_google_calendar_user", () -> googleCalendarRepository.findAllByUser(user));
+    }
+
+    private void assertUsesIndex(final String indexName, final Runnable query) {
+        assertUsesIndex(indexName, captureSelect(query));
+    }
+
+    // TaskQueryRepository 처럼 JDBC 로 실행하는 SQL 은 문자열을 그대로 검사한다 (:name 파라미터는 ? 로 바꾼다)
+    private void assertUsesIndex(final String indexName, final String sql) {
+        String plan = explain(sql.replaceAll("(?<!:):\\w+", "?"));
+        assertTrue(plan.contains(indexName), () -> indexName + " not used by\n" + sql + "\n" + plan);
+        assertFalse(plan.contains("Seq Scan"), () -> "sequential scan in\n" + sql + "\n" + plan);
+    }
+
+    private String captureSelect(final Runnable query) {
+        CapturingInspector.STATEMENTS.clear();
+        query.run();
+        return CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new IllegalStateException("no select statement captured"));
+    }
+
+    // 바인딩 값 없이 플랜을 보기 위해 ? 를 $n 으로 바꿔 generic plan 을 요청한다 (PostgreSQL 16+)
+    private String explain(final String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        boolean quoted = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return String.join("\n", jdbcTemplate.queryForList(
+                "explain (generic_plan, format json) " + numbered, String.class
+        ));
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package nutshell.server.service.google;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpRequest;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import com.google.api.services.calendar.Calendar;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Google Calendar API(calendarList, events.list, batch events.list)를 흉내 내는 테스트용 transport.
+// failingCalendarIds 에 있는 캘린더의 events.list 는 404 로 응답한다.
+// syncToken 을 붙인 events.list 는 기존 이벤트 삭제 + 새 이벤트 추가를 돌려주고, EXPIRED_SYNC_TOKEN 이면 410 으로 응답한다.
+public class FakeGoogleCalendarTransport extends MockHttpTransport {
+    private static final String BOUNDARY = "batch_test";
+    private static final Pattern BATCH_PART = Pattern.compile("GET\\s+\\S*/calendars/([^/\\s?]+)/events");
+    private static final Pattern EVENTS_URL = Pattern.compile("/calendars/([^/?]+)/events");
+    public static final String EXPIRED_SYNC_TOKEN = "expired";
+    private static final String GONE =
+            "{\"error\":{\"code\":410,\"message\":\"Sync token is no longer valid\",\"errors\":[{\"reason\":\"fullSyncRequired\",\"message\":\"Sync token is no longer valid\"}]}}";
+    private static final String NOT_FOUND =
+            "{\"error\":{\"code\":404,\"message\":\"Not Found\",\"errors\":[{\"reason\":\"notFound\",\"message\":\"Not Found\"}]}}";
+
+    private final List<String> calendarIds;
+    private final Set<String> failingCalendarIds;
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final List<String> eventsRequests = new CopyOnWriteArrayList<>();
+
+    public FakeGoogleCalendarTransport(final List<String> calendarIds, final Set<String> failingCalendarIds) {
+        this.calendarIds = calendarIds;
+        this.failingCalendarIds = failingCalendarIds;
+    }
+
+    public Calendar calendar() {
+        return new Calendar.Builder(this, GsonFactory.getDefaultInstance(), null)
+                .setApplicationName("test")
+                .build();
+    }
+
+    public int getBatchRequests() {
+        return batchRequests.get();
+    }
+
+    // batch 를 거치지 않은 단건 events.list 요청 URL
+    public List<String> getEventsRequests() {
+        return eventsRequests;
+    }
+
+    @Override
+    public LowLevelHttpRequest buildRequest(final String method, final String url) {
+        return new MockLowLevelHttpRequest(url) {
+            @Override
+            public LowLevelHttpResponse execute() throws IOException {
+                if (url.contains("/batch/")) {
+                    batchRequests.incrementAndGet();
+                    return batch(getContentAsString());
+                }
+                if (url.contains("/users/me/calendarList")) {
+                    return json(200, calendarList());
+                }
+                Matcher matcher = EVENTS_URL.matcher(url);
+                if (matcher.find()) {
+                    eventsRequests.add(url);
+                    String calendarId = matcher.group(1);
+                    if (failingCalendarIds.contains(calendarId)) {
+                        return json(404, NOT_FOUND);
+                    }
+                    if (url.contains("syncToken=" + EXPIRED_SYNC_TOKEN)) {
+                        return json(410, GONE);
+                    }
+                    return json(200, url.contains("syncToken=") ? changes(calendarId) : events(calendarId));
+                }
+                return json(404, NOT_FOUND);
+            }
+        };
+    }
+
+    private String calendarList() {
+        StringBuilder items = new StringBuilder();
+        for (String calendarId : calendarIds) {
+            items.append(items.isEmpty() ? "" : ",")
+                    .append("{\"id\":\"").append(calendarId).append("\",")
+                    .append("\"summary\":\"").append(calendarId).append("\",")
+                    .append("\"backgroundColor\":\"#4285f4\"}");
+        }
+        return "{\"items\":[" + items + "]}";
+    }
+
+    // 요청에 들어있는 events.list 순서대로 multipart/mixed 응답을 만든다
+    private MockLowLevelHttpResponse batch(final String request) {
+        Matcher matcher = BATCH_PART.matcher(request);
+        StringBuilder body = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            String calendarId = matcher.group(1);
+            boolean failing = failingCalendarIds.contains(calendarId);
+            String content = failing ? NOT_FOUND : events(calendarId);
+            body.append("--").append(BOUNDARY).append("\r\n")
+                    .append("Content-Type: application/http\r\n")
+                    .append("Content-ID: <response-").append(++index).append(">\r\n\r\n")
+                    .append(failing ? "HTTP/1.1 404 Not Found\r\n" : "HTTP/1.1 200 OK\r\n")
+                    .append("Content-Type: application/json; charset=UTF-8\r\n")
+                    .append("Content-Length: ").append(content.getBytes(StandardCharsets.UTF_8).length).append("\r\n\r\n")
+                    .append(content).append("\r\n");
+        }
+        body.append("--").append(BOUNDARY).append("--\r\n");
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(200)
+                .setContentType("multipart/mixed; boundary=" + BOUNDARY)
+                .setContent(body.toString());
+    }
+
+    private static String events(final String calendarId) {
+        return "{\"items\":[{\"id\":\"" + calendarId + "-event\",\"summary\":\"일정\"," +
+                "\"start\":{\"dateTime\":\"2024-07-01T09:00:00+09:00\"}," +
+                "\"end\":{\"dateTime\":\"2024-07-01T10:00:00+09:00\"}}]," +
+                "\"nextSyncToken\":\"sync-" + calendarId + "\"}";
+    }
+
+    private static String changes(final String calendarId) {
+        return "{\"items\":[{\"id\":\"" + calendarId + "-event\",\"status\":\"cancelled\"}," +
+                "{\"id\":\"" + calendarId + "-added\",\"status\":\"confirmed\",\"summary\":\"새 일정\"," +
+                "\"start\":{\"dateTime\":\"2024-07-02T09:00:00+09:00\"}," +
+                "\"end\":{\"dateTime\":\"2024-07-02T10:00:00+09:00\"}}]," +
+                "\"nextSyncToken\":\"sync-" + calendarId + "-next\"}";
+    }
+
+    private static MockLowLevelHttpResponse json(final int status, final String content) {
+        return new MockLowLevelHttpResponse()
+                .setStatusCode(status)
+                .setContentType("application/json; charset=UTF-8")
+                .setContent(content);
+    }
+}
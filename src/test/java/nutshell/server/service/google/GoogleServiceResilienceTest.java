@@ -0,0 +1,109 @@
+package nutshell.server.service.google;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import nutshell.server.config.DefaultPropertyConfig;
+import nutshell.server.feign.google.GoogleAuthClient;
+import nutshell.server.feign.google.GoogleInfoClient;
+import nutshell.server.feign.google.GoogleReissueClient;
+import nutshell.server.feign.google.GoogleUnlinkClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+// bulkhead 가 가득 차서 거절된 호출이 서킷 브레이커 실패로 집계되지 않는지 확인한다
+@SpringBootTest(classes = GoogleServiceResilienceTest.Config.class, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class GoogleServiceResilienceTest {
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            AopAutoConfiguration.class,
+            CircuitBreakerAutoConfiguration.class,
+            BulkheadAutoConfiguration.class
+    })
+    @Import({DefaultPropertyConfig.class, GoogleService.class})
+    static class Config {
+    }
+
+    @MockBean
+    private GoogleAuthClient googleAuthClient;
+    @MockBean
+    private GoogleInfoClient googleInfoClient;
+    @MockBean
+    private GoogleUnlinkClient googleUnlinkClient;
+    @MockBean
+    private GoogleReissueClient googleReissueClient;
+
+    @Autowired
+    private GoogleService googleService;
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+    @Value("${resilience4j.bulkhead.instances.google.max-concurrent-calls}")
+    private int MAX_CONCURRENT_CALLS;
+    @Value("${resilience4j.circuitbreaker.configs.default.sliding-window-size}")
+    private int SLIDING_WINDOW_SIZE;
+
+    @Test
+    void saturatedBulkheadKeepsBreakerClosed() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(googleUnlinkClient).googleUnlink(any());
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("googleRevoke");
+
+        ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_CALLS);
+        try {
+            List<Future<?>> inFlight = new ArrayList<>();
+            for (int i = 0; i < MAX_CONCURRENT_CALLS; i++) {
+                inFlight.add(executor.submit(() -> googleService.unlink("token")));
+            }
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead("google");
+            await().until(() -> bulkhead.getMetrics().getAvailableConcurrentCalls() == 0);
+
+            // 슬라이딩 윈도우를 다 채울 만큼 거절돼도 브레이커는 열리지 않아야 한다
+            for (int i = 0; i < SLIDING_WINDOW_SIZE * 2; i++) {
+                assertThrows(BulkheadFullException.class, () -> googleService.unlink("token"));
+            }
+            assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+            assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+
+            release.countDown();
+            for (Future<?> call : inFlight) {
+                call.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls() >= MAX_CONCURRENT_CALLS);
+    }
+}
@@ -0,0 +1,120 @@
+package nutshell.server.service.googleCalendar;
+
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.exception.BusinessException;
+import nutshell.server.exception.code.BusinessErrorCode;
+import nutshell.server.feign.google.GoogleTokenResponse;
+import nutshell.server.service.google.GoogleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 같은 계정에 대한 동시 재발급이 한 번의 호출과 한 번의 저장으로 합쳐지는지 확인한다
+@ExtendWith(MockitoExtension.class)
+class GoogleTokenManagerTest {
+    private static final int CALLERS = 8;
+
+    @Mock
+    private GoogleService googleService;
+    @Mock
+    private GoogleCalendarSaver googleCalendarSaver;
+
+    private GoogleTokenManager googleTokenManager;
+
+    @BeforeEach
+    void setUp() {
+        googleTokenManager = new GoogleTokenManager(googleService, new GoogleCalendarUpdater(), googleCalendarSaver);
+        lenient().when(googleCalendarSaver.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void concurrentRefreshesReissueAndPersistOnce() throws Exception {
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        when(googleService.reissue(any())).thenAnswer(invocation -> {
+            // 나머지 호출이 모두 진행 중인 재발급에 합류할 때까지 leader 를 붙잡아 둔다
+            assertTrue(arrived.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            return new GoogleTokenResponse("new-access", null, 3600);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<GoogleCalendar>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                // 요청마다 영속성 컨텍스트가 다르므로 서로 다른 인스턴스로 들어온다
+                GoogleCalendar googleCalendar = expiredCalendar();
+                results.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return googleTokenManager.refresh(googleCalendar);
+                }));
+            }
+            // 대기하던 호출도 leader 가 저장한 엔티티를 그대로 받는다
+            GoogleCalendar saved = results.get(0).get(5, TimeUnit.SECONDS);
+            assertEquals("new-access", saved.getAccessToken());
+            for (Future<GoogleCalendar> result : results) {
+                assertSame(saved, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(googleService, times(1)).reissue(any());
+        verify(googleCalendarSaver, times(1)).save(any());
+    }
+
+    @Test
+    void reissueFailurePropagatesAsBusinessException() {
+        when(googleService.reissue(any())).thenThrow(new IllegalStateException("invalid_grant"));
+
+        BusinessException exception = assertThrows(
+                BusinessException.class,
+                () -> googleTokenManager.refresh(expiredCalendar())
+        );
+
+        assertEquals(BusinessErrorCode.GOOGLE_TOKEN_REISSUE_FAILED, exception.getErrorCode());
+        verify(googleCalendarSaver, never()).save(any());
+    }
+
+    @Test
+    void tokenFarFromExpiryIsNotReissued() {
+        GoogleCalendar googleCalendar = calendar(LocalDateTime.now().plusMinutes(30));
+
+        assertSame(googleCalendar, googleTokenManager.refreshIfExpiring(googleCalendar));
+        verifyNoInteractions(googleService, googleCalendarSaver);
+    }
+
+    private GoogleCalendar expiredCalendar() {
+        return calendar(LocalDateTime.now().minusMinutes(1));
+    }
+
+    private GoogleCalendar calendar(final LocalDateTime expiresAt) {
+        GoogleCalendar googleCalendar = GoogleCalendar.builder()
+                .accessToken("old-access")
+                .refreshToken("refresh")
+                .expiresAt(expiresAt)
+                .email("user@nutshell.com")
+                .serialId("serial")
+                .build();
+        ReflectionTestUtils.setField(googleCalendar, "id", 1L);
+        return googleCalendar;
+    }
+}
@@ -0,0 +1,125 @@
+package nutshell.server.service.googleChannel;
+
+import nutshell.server.constant.GoogleConstant;
+import nutshell.server.controller.GoogleCalendarController;
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.GoogleChannel;
+import nutshell.server.service.google.GoogleCalendarClientFactory;
+import nutshell.server.service.googleCalendar.GoogleCalendarRetriever;
+import nutshell.server.service.googleCalendar.GoogleCalendarService;
+import nutshell.server.service.googleCalendar.GoogleTokenManager;
+import nutshell.server.service.googleSchedule.GoogleScheduleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Google 이 보내는 것처럼 push 알림을 연속으로 보내고, 알림 폭주가 한 번의 syncEvents 로 합쳐지는지 확인한다
+@ExtendWith(MockitoExtension.class)
+class GoogleChannelNotificationTest {
+    private static final Long GOOGLE_CALENDAR_ID = 1L;
+    private static final String CHANNEL_ID = "channel-1";
+    private static final String CHANNEL_TOKEN = "channel-token";
+    private static final String CALENDAR_ID = "primary";
+    private static final Duration DEBOUNCE_DELAY = Duration.ofMillis(200);
+
+    @Mock
+    private GoogleChannelRetriever googleChannelRetriever;
+    @Mock
+    private GoogleChannelSaver googleChannelSaver;
+    @Mock
+    private GoogleChannelRemover googleChannelRemover;
+    @Mock
+    private GoogleCalendarRetriever googleCalendarRetriever;
+    @Mock
+    private GoogleCalendarClientFactory googleCalendarClientFactory;
+    @Mock
+    private GoogleTokenManager googleTokenManager;
+    @Mock
+    private GoogleScheduleService googleScheduleService;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private GoogleCalendarService googleCalendarService;
+    @Spy
+    private GoogleSyncDebouncer googleSyncDebouncer = new GoogleSyncDebouncer();
+    @InjectMocks
+    private GoogleChannelService googleChannelService;
+
+    private MockMvc mockMvc;
+    private GoogleCalendar googleCalendar;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(googleSyncDebouncer, "POOL_SIZE", 1);
+        ReflectionTestUtils.setField(googleSyncDebouncer, "DEBOUNCE_DELAY", DEBOUNCE_DELAY);
+        googleSyncDebouncer.start();
+        mockMvc = MockMvcBuilders.standaloneSetup(new GoogleCalendarController(googleCalendarService, googleChannelService))
+                .build();
+
+        googleCalendar = mock(GoogleCalendar.class);
+        lenient().when(googleChannelRetriever.findById(CHANNEL_ID)).thenReturn(
+                GoogleChannel.builder()
+                        .id(CHANNEL_ID)
+                        .googleCalendarId(GOOGLE_CALENDAR_ID)
+                        .calendarId(CALENDAR_ID)
+                        .resourceId("resource-1")
+                        .token(CHANNEL_TOKEN)
+                        .expiration(System.currentTimeMillis() + Duration.ofDays(7).toMillis())
+                        .build()
+        );
+        lenient().when(googleCalendarRetriever.findById(GOOGLE_CALENDAR_ID)).thenReturn(googleCalendar);
+        lenient().when(googleTokenManager.refreshIfExpiring(googleCalendar)).thenReturn(googleCalendar);
+    }
+
+    @AfterEach
+    void tearDown() {
+        googleSyncDebouncer.shutdown();
+    }
+
+    @Test
+    void burstOfNotificationsTriggersOneSync() throws Exception {
+        sendNotification(CHANNEL_TOKEN, "sync");
+        for (int i = 0; i < 10; i++) {
+            sendNotification(CHANNEL_TOKEN, "exists");
+        }
+
+        verify(googleScheduleService, timeout(DEBOUNCE_DELAY.toMillis() * 10).times(1))
+                .syncEvents(googleCalendar, CALENDAR_ID);
+        // 마지막 알림 이후 지연 시간이 몇 번 더 지나도 추가 동기화는 없어야 한다
+        verify(googleScheduleService, after(DEBOUNCE_DELAY.toMillis() * 3).times(1))
+                .syncEvents(any(), anyString());
+    }
+
+    @Test
+    void notificationWithWrongTokenIsIgnored() throws Exception {
+        sendNotification("forged-token", "exists");
+
+        verify(googleScheduleService, after(DEBOUNCE_DELAY.toMillis() * 3).never()).syncEvents(any(), anyString());
+    }
+
+    // Google push 알림과 같은 헤더로 알림 endpoint 를 호출한다
+    private void sendNotification(final String token, final String resourceState) throws Exception {
+        mockMvc.perform(post("/api/google/calendars/notifications")
+                        .header(GoogleConstant.CHANNEL_ID_HEADER, CHANNEL_ID)
+                        .header(GoogleConstant.CHANNEL_TOKEN_HEADER, token)
+                        .header(GoogleConstant.RESOURCE_STATE_HEADER, resourceState))
+                .andExpect(status().isNoContent());
+    }
+}
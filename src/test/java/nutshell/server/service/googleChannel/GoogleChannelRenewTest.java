@@ -0,0 +1,119 @@
+package nutshell.server.service.googleChannel;
+
+import com.google.api.services.calendar.Calendar;
+import com.google.api.services.calendar.model.Channel;
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.GoogleChannel;
+import nutshell.server.service.google.GoogleCalendarClientFactory;
+import nutshell.server.service.googleCalendar.GoogleCalendarRetriever;
+import nutshell.server.service.googleCalendar.GoogleTokenManager;
+import nutshell.server.service.googleSchedule.GoogleScheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 갱신 주기에는 만료가 가까운 채널만 읽고, 그 채널의 계정만 한 번씩 조회하는지 확인한다
+@ExtendWith(MockitoExtension.class)
+class GoogleChannelRenewTest {
+    private static final Long GOOGLE_CALENDAR_ID = 1L;
+
+    @Mock
+    private GoogleChannelRetriever googleChannelRetriever;
+    @Mock
+    private GoogleChannelSaver googleChannelSaver;
+    @Mock
+    private GoogleChannelRemover googleChannelRemover;
+    @Mock
+    private GoogleCalendarRetriever googleCalendarRetriever;
+    @Mock
+    private GoogleCalendarClientFactory googleCalendarClientFactory;
+    @Mock
+    private GoogleTokenManager googleTokenManager;
+    @Mock
+    private GoogleScheduleService googleScheduleService;
+    @Mock
+    private GoogleSyncDebouncer googleSyncDebouncer;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private StringRedisTemplate stringRedisTemplate;
+    @InjectMocks
+    private GoogleChannelService googleChannelService;
+
+    private GoogleCalendar googleCalendar;
+    private Calendar calendar;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(googleChannelService, "WEBHOOK_ADDRESS", "https://example.com/notifications");
+        when(stringRedisTemplate.opsForValue().setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        googleCalendar = mock(GoogleCalendar.class);
+        lenient().when(googleCalendar.getId()).thenReturn(GOOGLE_CALENDAR_ID);
+        lenient().when(googleCalendarRetriever.findById(GOOGLE_CALENDAR_ID)).thenReturn(googleCalendar);
+        lenient().when(googleTokenManager.refreshIfExpiring(googleCalendar)).thenReturn(googleCalendar);
+
+        calendar = mock(Calendar.class, Answers.RETURNS_DEEP_STUBS);
+        lenient().when(googleCalendarClientFactory.getCalendar(googleCalendar)).thenReturn(calendar);
+        lenient().when(calendar.events().watch(anyString(), any(Channel.class)).execute()).thenReturn(
+                new Channel()
+                        .setResourceId("resource-new")
+                        .setExpiration(System.currentTimeMillis() + Duration.ofDays(7).toMillis())
+        );
+    }
+
+    @Test
+    void renewReplacesOnlyChannelsExpiringSoon() {
+        GoogleChannel primary = channel("channel-1", "primary");
+        GoogleChannel holidays = channel("channel-2", "holidays");
+        when(googleChannelRetriever.findIdsExpiringBefore(anyLong()))
+                .thenReturn(Set.of("channel-1", "channel-2", "channel-gone"));
+        when(googleChannelRetriever.findAllById(Set.of("channel-1", "channel-2", "channel-gone")))
+                .thenReturn(List.of(primary, holidays));
+
+        googleChannelService.renew();
+
+        // 같은 계정의 채널 두 개는 계정 조회 한 번으로 갱신한다
+        verify(googleCalendarRetriever, times(1)).findById(GOOGLE_CALENDAR_ID);
+        verify(googleChannelSaver, times(2)).save(any(GoogleChannel.class));
+        verify(googleChannelRemover).remove(primary);
+        verify(googleChannelRemover).remove(holidays);
+        // TTL 로 이미 사라진 채널은 만료 시각 항목만 정리한다
+        verify(googleChannelRemover).removeExpirations(eq(Set.of("channel-gone")));
+    }
+
+    @Test
+    void renewDoesNothingWhenNoChannelIsExpiring() {
+        when(googleChannelRetriever.findIdsExpiringBefore(anyLong())).thenReturn(Set.of());
+        when(googleChannelRetriever.findAllById(Set.of())).thenReturn(List.of());
+
+        googleChannelService.renew();
+
+        verifyNoInteractions(googleCalendarRetriever, googleCalendarClientFactory, googleChannelSaver);
+    }
+
+    private GoogleChannel channel(final String id, final String calendarId) {
+        return GoogleChannel.builder()
+                .id(id)
+                .googleCalendarId(GOOGLE_CALENDAR_ID)
+                .calendarId(calendarId)
+                .resourceId("resource-" + id)
+                .token("token-" + id)
+                .expiration(System.currentTimeMillis() + Duration.ofHours(12).toMillis())
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+package nutshell.server.service.googleSchedule;
+
+import nutshell.server.domain.GoogleCalendar;
+import nutshell.server.domain.GoogleCategory;
+import nutshell.server.domain.GoogleSchedule;
+import nutshell.server.dto.googleCalender.response.GoogleSchedulesDto;
+import nutshell.server.service.google.FakeGoogleCalendarTransport;
+import nutshell.server.service.google.GoogleCalendarClientFactory;
+import nutshell.server.service.googleCategory.GoogleCategoryRemover;
+import nutshell.server.service.googleCategory.GoogleCategoryRetriever;
+import nutshell.server.service.googleCategory.GoogleCategorySaver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 캘린더별 events.list 를 batch 로 보낼 때 부분 실패와 50개 단위 분할, push 알림 뒤의 syncToken 증분 동기화를 확인한다
+@ExtendWith(MockitoExtension.class)
+class GoogleScheduleServiceTest {
+    private static final Long GOOGLE_CALENDAR_ID = 1L;
+
+    @Mock
+    private GoogleCategoryRemover googleCategoryRemover;
+    @Mock
+    private GoogleCategorySaver googleCategorySaver;
+    @Mock
+    private GoogleCategoryRetriever googleCategoryRetriever;
+    @Mock
+    private GoogleScheduleRemover googleScheduleRemover;
+    @Mock
+    private GoogleScheduleSaver googleScheduleSaver;
+    @Mock
+    private GoogleScheduleRetriever googleScheduleRetriever;
+    @Mock
+    private GoogleCalendarClientFactory googleCalendarClientFactory;
+    @InjectMocks
+    private GoogleScheduleService googleScheduleService;
+
+    private GoogleCalendar googleCalendar;
+
+    @BeforeEach
+    void setUp() {
+        googleCalendar = mock(GoogleCalendar.class);
+        lenient().when(googleCalendar.getId()).thenReturn(GOOGLE_CALENDAR_ID);
+    }
+
+    @Test
+    void failedCalendarsKeepTheirSchedules() throws IOException {
+        List<String> calendarIds = List.of("calendar-0", "calendar-1", "calendar-2");
+        FakeGoogleCalendarTransport transport = givenTransport(calendarIds, Set.of("calendar-1"));
+        when(googleScheduleRetriever.findAllByGoogleCalendarId(GOOGLE_CALENDAR_ID)).thenReturn(schedules(calendarIds));
+
+        googleScheduleService.syncCalendar(googleCalendar);
+
+        assertEquals(1, transport.getBatchRequests());
+        assertEquals(List.of("calendar-0", "calendar-2"), removedCategoryIds());
+        verify(googleCategorySaver, times(3)).save(any());
+        ArgumentCaptor<GoogleSchedule> saved = ArgumentCaptor.forClass(GoogleSchedule.class);
+        verify(googleScheduleSaver, times(2)).save(saved.capture());
+        assertEquals(List.of("calendar-0", "calendar-2"), saved.getAllValues().stream().map(GoogleSchedule::getGoogleCategoryId).toList());
+    }
+
+    @Test
+    void syncFailsOnlyWhenEveryCalendarFails() {
+        List<String> calendarIds = List.of("calendar-0", "calendar-1");
+        givenTransport(calendarIds, Set.copyOf(calendarIds));
+
+        assertThrows(IOException.class, () -> googleScheduleService.syncCalendar(googleCalendar));
+
+        verifyNoInteractions(googleScheduleRemover, googleScheduleSaver, googleCategoryRemover, googleCategorySaver);
+    }
+
+    @Test
+    void moreThanFiftyCalendarsAreSplitIntoBatches() throws IOException {
+        List<String> calendarIds = IntStream.range(0, 120).mapToObj(i -> "calendar-" + i).toList();
+        FakeGoogleCalendarTransport transport = givenTransport(calendarIds, Set.of("calendar-7", "calendar-77"));
+        when(googleScheduleRetriever.findAllByGoogleCalendarId(GOOGLE_CALENDAR_ID)).thenReturn(schedules(calendarIds));
+
+        googleScheduleService.syncCalendar(googleCalendar);
+
+        assertEquals(3, transport.getBatchRequests());
+        assertEquals(0, transport.getEventsRequests().size());
+        List<String> removed = removedCategoryIds();
+        assertEquals(118, removed.size());
+        assertFalse(removed.contains("calendar-7") || removed.contains("calendar-77"));
+        verify(googleCategorySaver, times(120)).save(any());
+        verify(googleScheduleSaver, times(118)).save(any());
+    }
+
+    @Test
+    void pushedCalendarIsSyncedFromItsSyncToken() throws IOException {
+        FakeGoogleCalendarTransport transport = givenTransport(List.of("calendar-0"), Set.of());
+        GoogleCategory googleCategory = category("calendar-0", "sync-calendar-0");
+        when(googleCategoryRetriever.findById(GOOGLE_CALENDAR_ID, "calendar-0")).thenReturn(googleCategory);
+        GoogleSchedule existing = GoogleSchedule.builder()
+                .id(GOOGLE_CALENDAR_ID + ":calendar-0")
+                .googleCalendarId(GOOGLE_CALENDAR_ID)
+                .googleCategoryId("calendar-0")
+                .schedules(List.of(schedule("calendar-0-kept"), schedule("calendar-0-event")))
+                .build();
+        when(googleScheduleRetriever.findById(GOOGLE_CALENDAR_ID, "calendar-0")).thenReturn(existing);
+
+        googleScheduleService.syncEvents(googleCalendar, "calendar-0");
+
+        // 전체 목록 대신 syncToken 으로 바뀐 이벤트만 조회한다
+        assertEquals(0, transport.getBatchRequests());
+        assertEquals(1, transport.getEventsRequests().size());
+        assertTrue(transport.getEventsRequests().get(0).contains("syncToken=sync-calendar-0"));
+        verify(googleCategorySaver).save(googleCategory);
+        assertEquals("sync-calendar-0-next", googleCategory.getSyncToken());
+        verify(googleScheduleRemover).removeAll(List.of(existing));
+        ArgumentCaptor<GoogleSchedule> saved = ArgumentCaptor.forClass(GoogleSchedule.class);
+        verify(googleScheduleSaver).save(saved.capture());
+        assertEquals(
+                List.of("calendar-0-kept", "calendar-0-added"),
+                saved.getValue().getSchedules().stream().map(GoogleSchedulesDto.GoogleScheduleDto::eventId).toList()
+        );
+    }
+
+    @Test
+    void expiredSyncTokenFallsBackToFullSync() throws IOException {
+        FakeGoogleCalendarTransport transport = givenTransport(List.of("calendar-0"), Set.of());
+        when(googleCategoryRetriever.findById(GOOGLE_CALENDAR_ID, "calendar-0"))
+                .thenReturn(category("calendar-0", FakeGoogleCalendarTransport.EXPIRED_SYNC_TOKEN));
+
+        googleScheduleService.syncEvents(googleCalendar, "calendar-0");
+
+        assertEquals(1, transport.getBatchRequests());
+        ArgumentCaptor<GoogleCategory> saved = ArgumentCaptor.forClass(GoogleCategory.class);
+        verify(googleCategorySaver).save(saved.capture());
+        assertEquals("sync-calendar-0", saved.getValue().getSyncToken());
+    }
+
+    private FakeGoogleCalendarTransport givenTransport(final List<String> calendarIds, final Set<String> failingCalendarIds) {
+        FakeGoogleCalendarTransport transport = new FakeGoogleCalendarTransport(calendarIds, failingCalendarIds);
+        when(googleCalendarClientFactory.getCalendar(googleCalendar)).thenReturn(transport.calendar());
+        return transport;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> removedCategoryIds() {
+        ArgumentCaptor<List<GoogleSchedule>> removed = ArgumentCaptor.forClass(List.class);
+        verify(googleScheduleRemover).removeAll(removed.capture());
+        return removed.getValue().stream().map(GoogleSchedule::getGoogleCategoryId).toList();
+    }
+
+    private GoogleCategory category(final String calendarId, final String syncToken) {
+        return GoogleCategory.builder()
+                .id(GOOGLE_CALENDAR_ID + ":" + calendarId)
+                .googleCalendarId(GOOGLE_CALENDAR_ID)
+                .name(calendarId)
+                .color("#4285f4")
+                .syncToken(syncToken)
+                .build();
+    }
+
+    private GoogleSchedulesDto.GoogleScheduleDto schedule(final String eventId) {
+        return GoogleSchedulesDto.GoogleScheduleDto.builder()
+                .name(eventId)
+                .startTime(LocalDateTime.of(2024, 7, 1, 9, 0))
+                .endTime(LocalDateTime.of(2024, 7, 1, 10, 0))
+                .allDay(false)
+                .eventId(eventId)
+                .build();
+    }
+
+    private List<GoogleSchedule> schedules(final List<String> calendarIds) {
+        return calendarIds.stream()
+                .map(calendarId -> GoogleSchedule.builder()
+                        .id(GOOGLE_CALENDAR_ID + ":" + calendarId)
+                        .googleCalendarId(GOOGLE_CALENDAR_ID)
+                        .googleCategoryId(calendarId)
+                        .schedules(List.of())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,188 @@
+package nutshell.server.service.task;
+
+import nutshell.server.dto.task.response.TaskHistoryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 보관 기간(90일)이 지난 DONE task 만 time_block 과 함께 보관 테이블로 옮겨지고,
+// 히스토리 keyset 페이지가 같은 end_date 경계에서도 겹치거나 빠지지 않는지 확인한다
+@SpringBootTest(properties = {
+        "jwt.access-token-expire-period=86400000",
+        "jwt.refresh-token-expire-period=86400000",
+        "google.calender.client-id=test",
+        "google.calender.client-secret=test",
+        "google.calender.redirect-uri=http://localhost/callback",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "spring.security.oauth2.client.registration.google.redirect-uri=http://localhost/callback",
+        "logging.discord.webhook-uri=http://127.0.0.1:9/discord",
+        "task.archive.batch-size=2"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class TaskArchiverTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("jwt.secret-key", () -> Base64.getEncoder().encodeToString(new byte[64]));
+    }
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    // end_date 가 같은 세 task 와 더 오래된 task 하나
+    private Long sameDayFirst;
+    private Long sameDaySecond;
+    private Long sameDayThird;
+    private Long oldest;
+    private Long recent;
+    private Long notDone;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser();
+        sameDayFirst = insertTask("DONE", TODAY.minusDays(100), 2);
+        sameDaySecond = insertTask("DONE", TODAY.minusDays(100), 1);
+        sameDayThird = insertTask("DONE", TODAY.minusDays(100), 0);
+        oldest = insertTask("DONE", TODAY.minusDays(120), 1);
+        recent = insertTask("DONE", TODAY.minusDays(10), 1);
+        notDone = insertTask("IN_PROGRESS", TODAY.minusDays(100), 1);
+    }
+
+    @Test
+    void archiveMovesOldDoneTasksWithTheirTimeBlocks() {
+        List<Long> archived = List.of(sameDayFirst, sameDaySecond, sameDayThird, oldest);
+
+        // batch-size 2 라 배치 두 번에 나눠 옮긴다
+        taskArchiver.archive();
+
+        for (Long taskId : archived) {
+            assertEquals(0, count("select count(*) from task where id = ?", taskId));
+            assertEquals(0, count("select count(*) from time_block where task_id = ?", taskId));
+            assertEquals(1, count("select count(*) from task_archive where id = ? and status = 'DONE' and archived_at is not null", taskId));
+        }
+        assertEquals(2, count("select count(*) from time_block_archive where task_id = ?", sameDayFirst));
+        assertEquals(1, count("select count(*) from time_block_archive where task_id = ?", sameDaySecond));
+        assertEquals(0, count("select count(*) from time_block_archive where task_id = ?", sameDayThird));
+        assertEquals(1, count("select count(*) from time_block_archive where task_id = ?", oldest));
+
+        for (Long taskId : List.of(recent, notDone)) {
+            assertEquals(1, count("select count(*) from task where id = ?", taskId));
+            assertEquals(1, count("select count(*) from time_block where task_id = ?", taskId));
+            assertEquals(0, count("select count(*) from task_archive where id = ?", taskId));
+        }
+    }
+
+    @Test
+    void historyPagesAreStableAcrossEqualEndDates() {
+        taskArchiver.archive();
+        // (end_date, id) 내림차순
+        List<Long> expected = List.of(sameDayThird, sameDaySecond, sameDayFirst, oldest);
+
+        for (int size = 1; size <= expected.size(); size++) {
+            assertEquals(expected, readAllPages(size), "size " + size);
+        }
+
+        TaskHistoryDto firstPage = taskService.getTaskHistory(userId, null, null, expected.size());
+        assertEquals(2, firstPage.tasks().get(2).timeBlocks().size());
+        assertTrue(firstPage.tasks().get(0).timeBlocks().isEmpty());
+        assertFalse(firstPage.hasNext());
+    }
+
+    // 이전 페이지 마지막 task 를 cursor 로 끝까지 읽으면서 페이지 사이에 겹치는 task 가 없는지 확인한다
+    private List<Long> readAllPages(final int size) {
+        List<Long> ids = new ArrayList<>();
+        LocalDate cursorEndDate = null;
+        Long cursorId = null;
+        boolean hasNext = true;
+        while (hasNext) {
+            TaskHistoryDto page = taskService.getTaskHistory(userId, cursorEndDate, cursorId, size);
+            assertTrue(page.tasks().size() <= size);
+            for (TaskHistoryDto.TaskDto task : page.tasks()) {
+                assertFalse(ids.contains(task.id()), "task " + task.id() + " repeated");
+                ids.add(task.id());
+            }
+            hasNext = page.hasNext();
+            if (hasNext) {
+                TaskHistoryDto.TaskDto last = page.tasks().get(page.tasks().size() - 1);
+                cursorEndDate = last.endDate();
+                cursorId = last.id();
+            }
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        return ids;
+    }
+
+    private Long insertUser() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String serial = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "insert into users (given_name, family_name, image, email, serial_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                "길동", "홍", "https://example.com/image.png", serial + "@nutshell.com", serial, now, now
+        );
+        return jdbcTemplate.queryForObject("select id from users where serial_id = ?", Long.class, serial);
+    }
+
+    // endDate 날짜에 한 시간짜리 time_block 을 timeBlocks 개 붙인다
+    private Long insertTask(final String status, final LocalDate endDate, final int timeBlocks) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Long taskId = jdbcTemplate.queryForObject(
+                "insert into task (name, description, status, assigned_date, end_date, created_at, updated_at, user_id) " +
+                        "values (?, ?, ?, ?, ?, ?, ?, ?) returning id",
+                Long.class,
+                "할 일", "설명", status, Date.valueOf(endDate), Date.valueOf(endDate), now, now, userId
+        );
+        for (int i = 0; i < timeBlocks; i++) {
+            jdbcTemplate.update(
+                    "insert into time_block (task_id, start_time, end_time, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                    taskId,
+                    Timestamp.valueOf(endDate.atTime(9 + i, 0)),
+                    Timestamp.valueOf(endDate.atTime(10 + i, 0)),
+                    now, now
+            );
+        }
+        return taskId;
+    }
+
+    private int count(final String sql, final Long taskId) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, taskId);
+    }
+}
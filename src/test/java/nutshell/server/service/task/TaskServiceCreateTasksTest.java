@@ -0,0 +1,108 @@
+package nutshell.server.service.task;
+
+import jakarta.validation.Validation;
+import nutshell.server.domain.Task;
+import nutshell.server.domain.User;
+import nutshell.server.dto.task.request.TaskBatchCreateDto;
+import nutshell.server.dto.task.request.TaskCreateDto;
+import nutshell.server.dto.task.response.TaskBatchCreateResultDto;
+import nutshell.server.service.user.UserRetriever;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+// 여러 task 를 한 번에 만들 때 잘못된 항목만 index 별 error 로 돌려주고 나머지는 요청 순서대로 생성하는지 확인한다
+@ExtendWith(MockitoExtension.class)
+class TaskServiceCreateTasksTest {
+    private static final Long USER_ID = 1L;
+    private static final long FIRST_ID = 100L;
+
+    @Mock
+    private UserRetriever userRetriever;
+    @Mock
+    private TaskSaver taskSaver;
+    @InjectMocks
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskService, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        when(userRetriever.findByUserId(USER_ID)).thenReturn(mock(User.class));
+        // pooled sequence 처럼 저장 순서대로 id 를 매긴다
+        AtomicLong sequence = new AtomicLong(FIRST_ID);
+        lenient().when(taskSaver.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> ReflectionTestUtils.setField(task, "id", sequence.getAndIncrement()));
+            return tasks;
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void invalidEntriesFailPerIndexAndTheRestAreCreated() {
+        TaskBatchCreateDto request = new TaskBatchCreateDto(Arrays.asList(
+                task("첫 번째"),
+                task(" "),
+                null,
+                task("a".repeat(256)),
+                new TaskCreateDto("마감 있음", new TaskCreateDto.DeadLine(LocalDate.of(2024, 7, 1), LocalTime.of(9, 0))),
+                task("a".repeat(255))
+        ));
+
+        TaskBatchCreateResultDto result = taskService.createTasks(USER_ID, request);
+
+        assertEquals(3, result.createdCount());
+        assertEquals(3, result.failedCount());
+        List<TaskBatchCreateResultDto.Result> results = result.results();
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), results.stream().map(TaskBatchCreateResultDto.Result::index).toList());
+        // 실패한 index 는 건너뛰고 성공한 항목에만 저장 순서대로 id 가 붙는다
+        assertEquals(
+                Arrays.asList(FIRST_ID, null, null, null, FIRST_ID + 1, FIRST_ID + 2),
+                results.stream().map(TaskBatchCreateResultDto.Result::id).toList()
+        );
+        assertNull(results.get(0).error());
+        assertTrue(results.get(1).error().startsWith("name: "), results.get(1).error());
+        assertEquals("task 가 비어 있습니다.", results.get(2).error());
+        assertTrue(results.get(3).error().startsWith("name: "), results.get(3).error());
+        assertNull(results.get(4).error());
+        assertNull(results.get(5).error());
+
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskSaver).saveAll(saved.capture());
+        assertEquals(List.of("첫 번째", "마감 있음", "a".repeat(255)), saved.getValue().stream().map(Task::getName).toList());
+        assertNotNull(saved.getValue().get(1).getDeadLineDate());
+    }
+
+    @Test
+    void allInvalidEntriesCreateNothing() {
+        TaskBatchCreateDto request = new TaskBatchCreateDto(Arrays.asList(null, task("")));
+
+        TaskBatchCreateResultDto result = taskService.createTasks(USER_ID, request);
+
+        assertEquals(0, result.createdCount());
+        assertEquals(2, result.failedCount());
+        assertTrue(result.results().stream().allMatch(r -> r.id() == null && r.error() != null));
+    }
+
+    private static TaskCreateDto task(final String name) {
+        return new TaskCreateDto(name, null);
+    }
+}
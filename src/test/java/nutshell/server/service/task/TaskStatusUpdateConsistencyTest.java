@@ -0,0 +1,213 @@
+package nutshell.server.service.task;
+
+import nutshell.server.domain.TaskOrder;
+import nutshell.server.dto.task.request.TaskBulkStatusDto;
+import nutshell.server.dto.task.request.TaskStatusDto;
+import nutshell.server.service.taskOrder.TaskOrderRetriever;
+import nutshell.server.service.taskOrder.TaskOrderSaver;
+import nutshell.server.service.taskOrder.TaskOrderUpdater;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 같은 task 들을 가진 두 사용자 중 한 명은 updateStatus 로 하나씩, 다른 한 명은 updateStatuses 로 한 번에 바꾸고
+// 컬럼(status, assigned_date, end_date) 이 같은지 비교한다. 단건 API 는 순서를 클라이언트가 따로 저장하므로
+// TaskOrder 는 일괄 변경 쪽만 확인한다.
+@SpringBootTest(properties = {
+        "jwt.access-token-expire-period=86400000",
+        "jwt.refresh-token-expire-period=86400000",
+        "google.calender.client-id=test",
+        "google.calender.client-secret=test",
+        "google.calender.redirect-uri=http://localhost/callback",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "spring.security.oauth2.client.registration.google.redirect-uri=http://localhost/callback",
+        "logging.discord.webhook-uri=http://127.0.0.1:9/discord"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class TaskStatusUpdateConsistencyTest {
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("jwt.secret-key", () -> Base64.getEncoder().encodeToString(new byte[64]));
+    }
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskOrderSaver taskOrderSaver;
+    @Autowired
+    private TaskOrderRetriever taskOrderRetriever;
+    @Autowired
+    private TaskOrderUpdater taskOrderUpdater;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // targetOffset 이 비어 있으면 Staging Area 로 보낸다. 순서는 insertTasks 의 인덱스로 적는다.
+    @ParameterizedTest
+    @CsvSource({
+            ", 미완료, '0,3,1,2', ",
+            "1, 완료, '0,3', '0,1,2,3'",
+            "1, 진행중, '', '0,1,2,3'",
+            "0, 미완료, '', '2,1,0,3'"
+    })
+    void bulkUpdateMatchesSingleTaskUpdate(
+            final Integer targetOffset,
+            final String status,
+            final String expectedStaging,
+            final String expectedTarget
+    ) {
+        LocalDate targetDate = targetOffset == null ? null : TODAY.plusDays(targetOffset);
+
+        Long singleUser = insertUser();
+        List<Long> singleTasks = insertTasks(singleUser);
+        Long bulkUser = insertUser();
+        List<Long> bulkTasks = insertTasks(bulkUser);
+
+        for (Long taskId : singleTasks) {
+            taskService.updateStatus(singleUser, taskId, new TaskStatusDto(targetDate, status));
+        }
+        taskService.updateStatuses(bulkUser, new TaskBulkStatusDto(bulkTasks, targetDate, status));
+
+        assertEquals(columns(singleTasks), columns(bulkTasks));
+        assertEquals(indexes(expectedStaging), positions(bulkUser, false, null, bulkTasks));
+        if (targetDate != null) {
+            assertEquals(indexes(expectedTarget), positions(bulkUser, true, targetDate, bulkTasks));
+        }
+    }
+
+    // 같은 사용자의 일괄 변경이 동시에 겹쳐도 순서 목록의 변경이 사라지지 않아야 한다
+    @Test
+    void concurrentMovesKeepEveryTask() throws Exception {
+        Long userId = insertUser();
+        List<Long> taskIds = LongStream.rangeClosed(1, 20).boxed().toList();
+        taskOrderSaver.save(TaskOrder.builder().userId(userId).type(false).taskList(new ArrayList<>(taskIds)).build());
+        taskOrderSaver.save(TaskOrder.builder().userId(userId).type(true).targetDate(TODAY).taskList(new ArrayList<>()).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(taskIds.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long taskId : taskIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    taskOrderUpdater.moveTasksAfterCommit(userId, TODAY, List.of(taskId), true);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Set.copyOf(taskIds), Set.copyOf(taskList(userId, true, TODAY)));
+        assertEquals(taskIds.size(), taskList(userId, true, TODAY).size());
+        assertTrue(taskList(userId, false, null).isEmpty());
+    }
+
+    private Long insertUser() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String serial = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "insert into users (given_name, family_name, image, email, serial_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                "길동", "홍", "https://example.com/image.png", serial + "@nutshell.com", serial, now, now
+        );
+        return jdbcTemplate.queryForObject("select id from users where serial_id = ?", Long.class, serial);
+    }
+
+    // 미할당, 할당, 할당 후 완료, 미할당 완료 네 가지 상태를 만들고 Staging Area/해당 날짜 순서를 채운다
+    private List<Long> insertTasks(final Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date today = Date.valueOf(TODAY);
+        Object[][] states = {
+                {"TODO", null, null},
+                {"IN_PROGRESS", today, null},
+                {"DONE", today, today},
+                {"DONE", null, today}
+        };
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < states.length; i++) {
+            jdbcTemplate.update(
+                    "insert into task (name, description, status, assigned_date, end_date, created_at, updated_at, user_id) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                    "할 일 " + i, "설명 " + i, states[i][0], states[i][1], states[i][2], now, now, userId
+            );
+            taskIds.add(jdbcTemplate.queryForObject("select max(id) from task where user_id = ?", Long.class, userId));
+        }
+        taskOrderSaver.save(TaskOrder.builder().userId(userId).type(false)
+                .taskList(new ArrayList<>(List.of(taskIds.get(0), taskIds.get(3)))).build());
+        taskOrderSaver.save(TaskOrder.builder().userId(userId).type(true).targetDate(TODAY)
+                .taskList(new ArrayList<>(List.of(taskIds.get(2), taskIds.get(1)))).build());
+        taskOrderSaver.save(TaskOrder.builder().userId(userId).type(true).targetDate(TODAY.plusDays(1))
+                .taskList(new ArrayList<>()).build());
+        return taskIds;
+    }
+
+    private List<Map<String, Object>> columns(final List<Long> taskIds) {
+        return taskIds.stream()
+                .map(taskId -> jdbcTemplate.queryForMap(
+                        "select status, assigned_date, end_date from task where id = ?", taskId))
+                .toList();
+    }
+
+    // 사용자마다 id 가 다르므로 순서 목록을 insertTasks 의 인덱스로 바꿔서 비교한다
+    private List<Integer> positions(final Long userId, final Boolean type, final LocalDate targetDate, final List<Long> taskIds) {
+        return taskList(userId, type, targetDate).stream().map(taskIds::indexOf).toList();
+    }
+
+    private List<Long> taskList(final Long userId, final Boolean type, final LocalDate targetDate) {
+        // 목록이 비면 hash 에 taskList 필드가 남지 않는다
+        TaskOrder taskOrder = taskOrderRetriever.findById(userId, type, targetDate);
+        return taskOrder == null || taskOrder.getTaskList() == null ? List.of() : taskOrder.getTaskList();
+    }
+
+    private List<Integer> indexes(final String expected) {
+        if (expected == null || expected.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(expected.split(",")).map(Integer::valueOf).toList();
+    }
+}
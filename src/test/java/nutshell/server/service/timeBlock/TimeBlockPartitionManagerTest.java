@@ -0,0 +1,102 @@
+package nutshell.server.service.timeBlock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 월 파티션 생성 시 default 에 있던 행 이동, 보관 기간이 지난 월 파티션 분리, 다른 이름의 파티션은 그대로 두는지 확인한다
+@SpringBootTest(properties = {
+        "jwt.access-token-expire-period=86400000",
+        "jwt.refresh-token-expire-period=86400000",
+        "google.calender.client-id=test",
+        "google.calender.client-secret=test",
+        "google.calender.redirect-uri=http://localhost/callback",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "spring.security.oauth2.client.registration.google.redirect-uri=http://localhost/callback",
+        "logging.discord.webhook-uri=http://127.0.0.1:9/discord"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class TimeBlockPartitionManagerTest {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("jwt.secret-key", () -> Base64.getEncoder().encodeToString(new byte[64]));
+    }
+
+    @Autowired
+    private TimeBlockPartitionManager timeBlockPartitionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void maintainSkipsForeignPartitionsAndMovesDefaultRows() {
+        // 기동 시 만든 파티션 중 가장 먼 달을 떼어 내서 그 달의 행이 default 로 들어가게 한다
+        YearMonth farthestMonth = YearMonth.now().plusMonths(3);
+        String farthest = "time_block_" + farthestMonth.format(SUFFIX);
+        jdbcTemplate.execute("alter table time_block detach partition " + farthest);
+        jdbcTemplate.execute("drop table " + farthest);
+        jdbcTemplate.execute("create table time_block_199901 partition of time_block for values from ('1999-01-01') to ('1999-02-01')");
+        jdbcTemplate.execute("create table time_block_import partition of time_block for values from ('1998-01-01') to ('1999-01-01')");
+        jdbcTemplate.update(
+                "insert into users (given_name, family_name, image, email, serial_id, created_at, updated_at) " +
+                        "values ('길동', '홍', 'https://example.com/image.png', 'partition@nutshell.com', 'partition', now(), now())"
+        );
+        jdbcTemplate.update(
+                "insert into task (name, status, created_at, updated_at, user_id) " +
+                        "select '할 일', 'TODO', now(), now(), id from users where serial_id = 'partition'"
+        );
+        jdbcTemplate.update(
+                "insert into time_block (task_id, start_time, end_time, created_at, updated_at) " +
+                        "select t.id, ?, ?, now(), now() " +
+                        "from task t join users u on u.id = t.user_id where u.serial_id = 'partition'",
+                Timestamp.valueOf(farthestMonth.atDay(2).atTime(9, 0)),
+                Timestamp.valueOf(farthestMonth.atDay(2).atTime(10, 0))
+        );
+        assertEquals(1, count("time_block_default"));
+
+        timeBlockPartitionManager.maintain();
+
+        List<String> partitions = jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid where i.inhparent = 'time_block'::regclass",
+                String.class
+        );
+        assertTrue(partitions.contains(farthest));
+        assertTrue(partitions.contains("time_block_import"));
+        assertFalse(partitions.contains("time_block_199901"));
+        assertEquals(0, count("time_block_default"));
+        assertEquals(1, count(farthest));
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+}
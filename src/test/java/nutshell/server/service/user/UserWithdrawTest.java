@@ -0,0 +1,195 @@
+package nutshell.server.service.user;
+
+import nutshell.server.domain.GoogleCategory;
+import nutshell.server.domain.GoogleChannel;
+import nutshell.server.domain.GoogleSchedule;
+import nutshell.server.domain.TaskOrder;
+import nutshell.server.domain.Token;
+import nutshell.server.repository.GoogleCategoryRepository;
+import nutshell.server.repository.GoogleChannelRepository;
+import nutshell.server.repository.GoogleScheduleRepository;
+import nutshell.server.repository.TaskOrderRepository;
+import nutshell.server.repository.TokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 탈퇴 시 V4 의 ON DELETE CASCADE 로 하위 행이 지워지고, Redis 정리는 커밋 뒤에만 일어나는지 확인한다
+@SpringBootTest(properties = {
+        "jwt.access-token-expire-period=86400000",
+        "jwt.refresh-token-expire-period=86400000",
+        "google.calender.client-id=test",
+        "google.calender.client-secret=test",
+        "google.calender.redirect-uri=http://localhost/callback",
+        "google.calendar.root-url=http://127.0.0.1:9/",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test",
+        "spring.security.oauth2.client.registration.google.redirect-uri=http://localhost/callback",
+        "logging.discord.webhook-uri=http://127.0.0.1:9/discord"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class UserWithdrawTest {
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("jwt.secret-key", () -> Base64.getEncoder().encodeToString(new byte[64]));
+    }
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TaskOrderRepository taskOrderRepository;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private GoogleChannelRepository googleChannelRepository;
+    @Autowired
+    private GoogleScheduleRepository googleScheduleRepository;
+    @Autowired
+    private GoogleCategoryRepository googleCategoryRepository;
+
+    private Long userId;
+    private Long otherUserId;
+    private Long googleCalendarId;
+    private Long taskId;
+    private String taskOrderId;
+    private String channelId;
+    private String googleId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser();
+        otherUserId = insertUser();
+        googleCalendarId = insertUserData(userId);
+        taskId = jdbcTemplate.queryForObject("select id from task where user_id = ?", Long.class, userId);
+        insertUserData(otherUserId);
+
+        taskOrderId = taskOrderRepository.save(TaskOrder.builder().userId(userId).type(false)
+                .taskList(new ArrayList<>(List.of(1L, 2L))).build()).getId();
+        tokenRepository.save(Token.builder().id(userId).refreshToken(UUID.randomUUID().toString()).build());
+        channelId = UUID.randomUUID().toString();
+        googleChannelRepository.save(GoogleChannel.builder().id(channelId).googleCalendarId(googleCalendarId)
+                .calendarId("primary").resourceId("resource").token("token")
+                .expiration(System.currentTimeMillis() + 60_000).build());
+        googleId = googleCalendarId + ":primary";
+        googleCategoryRepository.save(GoogleCategory.builder().id(googleId).googleCalendarId(googleCalendarId)
+                .name("기본").color("#000000").build());
+        googleScheduleRepository.save(GoogleSchedule.builder().id(googleId).googleCalendarId(googleCalendarId)
+                .googleCategoryId("primary").name("기본").color("#000000").schedules(List.of()).build());
+    }
+
+    @Test
+    void withdrawCascadesInDatabaseAndCleansRedisAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.withdraw(userId);
+            // 커밋 전에는 Redis 를 건드리지 않는다
+            assertTrue(tokenRepository.findById(userId).isPresent());
+            assertTrue(taskOrderRepository.findById(taskOrderId).isPresent());
+            assertTrue(googleChannelRepository.findById(channelId).isPresent());
+        });
+
+        assertEquals(0, countRows(userId));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from time_block where task_id = ?", Integer.class, taskId));
+        assertEquals(4, countRows(otherUserId));
+
+        assertFalse(tokenRepository.findById(userId).isPresent());
+        assertFalse(taskOrderRepository.findById(taskOrderId).isPresent());
+        assertFalse(googleChannelRepository.findById(channelId).isPresent());
+        assertFalse(googleCategoryRepository.findById(googleId).isPresent());
+        assertFalse(googleScheduleRepository.findById(googleId).isPresent());
+        assertTrue(googleScheduleRepository.findAllByGoogleCalendarId(googleCalendarId).isEmpty());
+    }
+
+    @Test
+    void rolledBackWithdrawKeepsEverything() {
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            userService.withdraw(userId);
+            throw new IllegalStateException("rollback");
+        }));
+
+        assertEquals(4, countRows(userId));
+        assertTrue(tokenRepository.findById(userId).isPresent());
+        assertTrue(taskOrderRepository.findById(taskOrderId).isPresent());
+        assertTrue(googleChannelRepository.findById(channelId).isPresent());
+        assertTrue(googleCategoryRepository.findById(googleId).isPresent());
+        assertTrue(googleScheduleRepository.findById(googleId).isPresent());
+    }
+
+    private Long insertUser() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String serial = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "insert into users (given_name, family_name, image, email, serial_id, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)",
+                "길동", "홍", "https://example.com/image.png", serial + "@nutshell.com", serial, now, now
+        );
+        return jdbcTemplate.queryForObject("select id from users where serial_id = ?", Long.class, serial);
+    }
+
+    // task, time_block, google_calendar 를 한 행씩 만들고 google_calendar id 를 돌려준다
+    private Long insertUserData(final Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "insert into task (name, description, status, assigned_date, created_at, updated_at, user_id) values (?, ?, ?, ?, ?, ?, ?)",
+                "할 일", "설명", "TODO", Date.valueOf(LocalDate.now()), now, now, userId
+        );
+        jdbcTemplate.update(
+                "insert into time_block (task_id, start_time, end_time, created_at, updated_at) " +
+                        "select t.id, current_date + interval '9 hour', current_date + interval '10 hour', now(), now() " +
+                        "from task t where t.user_id = ?",
+                userId
+        );
+        String serial = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "insert into google_calendar (refresh_token, access_token, email, serial_id, created_at, updated_at, user_id) values (?, ?, ?, ?, ?, ?, ?)",
+                "refresh-" + serial, "access-" + serial, serial + "@gmail.com", serial, now, now, userId
+        );
+        return jdbcTemplate.queryForObject("select id from google_calendar where serial_id = ?", Long.class, serial);
+    }
+
+    // users + task + time_block + google_calendar 행 수. task 가 지워진 뒤의 time_block 은 task_id 로 따로 센다.
+    private int countRows(final Long userId) {
+        return jdbcTemplate.queryForObject(
+                "select (select count(*) from users where id = ?) " +
+                        "+ (select count(*) from task where user_id = ?) " +
+                        "+ (select count(*) from time_block tb join task t on t.id = tb.task_id where t.user_id = ?) " +
+                        "+ (select count(*) from google_calendar where user_id = ?)",
+                Integer.class, userId, userId, userId, userId
+        );
+    }
+}